@@ -4,5 +4,6 @@ task=$1
 case $task in
   clean) ./gradlew clean ;;
   format) ./gradlew spotlessApply ;;
+  benchmark) ./gradlew jmh ;;
   *) ./gradlew build jpackage ;;
 esac
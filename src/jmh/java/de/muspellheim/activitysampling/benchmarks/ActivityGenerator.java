@@ -0,0 +1,109 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.benchmarks;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+class ActivityGenerator {
+  static final LocalDate START_DATE = LocalDate.of(2000, 1, 1);
+  static final int ACTIVITIES_PER_DAY = 24;
+
+  private static final long SEED = 42;
+  private static final Duration INTERVAL = Duration.ofMinutes(20);
+  private static final String[] NOTES = {
+    "", "Lorem ipsum", "Meeting, follow-up", "Review \"draft\"", "Multi-line\r\nnote",
+  };
+
+  private final List<String> clients = names("Client", 5);
+  private final List<String> projects = names("Project", 20);
+  private final List<String> tasks = names("Task", 100);
+
+  List<Activity> generate(int count) {
+    var random = new SplittableRandom(SEED);
+    var activities = new ArrayList<Activity>(count);
+    for (var i = 0; i < count; i++) {
+      activities.add(next(random, i));
+    }
+    return activities;
+  }
+
+  void writeCsv(Path file, int count) throws IOException {
+    var random = new SplittableRandom(SEED);
+    try (var writer = Files.newBufferedWriter(file)) {
+      writer.write("Timestamp,Duration,Client,Project,Task,Notes\r\n");
+      for (var i = 0; i < count; i++) {
+        var activity = next(random, i);
+        writer.write(activity.timestamp().toString());
+        writer.write(',');
+        writer.write(activity.duration().toString());
+        writer.write(',');
+        writer.write(quote(activity.client()));
+        writer.write(',');
+        writer.write(quote(activity.project()));
+        writer.write(',');
+        writer.write(quote(activity.task()));
+        writer.write(',');
+        writer.write(quote(activity.notes()));
+        writer.write("\r\n");
+      }
+    }
+  }
+
+  static LocalDate lastDate(int count) {
+    return START_DATE.plusDays((count - 1) / ACTIVITIES_PER_DAY);
+  }
+
+  private Activity next(SplittableRandom random, int index) {
+    var day = START_DATE.plusDays(index / ACTIVITIES_PER_DAY);
+    var timestamp =
+        LocalDateTime.of(day, LocalTime.of(8, 0))
+            .plus(INTERVAL.multipliedBy(index % ACTIVITIES_PER_DAY));
+    var project = random.nextInt(projects.size());
+    return Activity.builder()
+        .timestamp(timestamp)
+        .duration(INTERVAL)
+        .client(clients.get(project % clients.size()))
+        .project(projects.get(project))
+        .task(tasks.get(random.nextInt(tasks.size())))
+        .notes(notes(random, index))
+        .build();
+  }
+
+  private static String notes(SplittableRandom random, int index) {
+    // Notes are free text, so most of them are unique like in a real log.
+    var notes = NOTES[random.nextInt(NOTES.length)];
+    return random.nextInt(10) == 0 ? notes : (notes + " #" + index).strip();
+  }
+
+  private static List<String> names(String prefix, int count) {
+    var names = new ArrayList<String>(count);
+    for (var i = 1; i <= count; i++) {
+      names.add(prefix + " #" + i);
+    }
+    return List.copyOf(names);
+  }
+
+  private static String quote(String value) {
+    if (value.indexOf(',') == -1
+        && value.indexOf('"') == -1
+        && value.indexOf('\r') == -1
+        && value.indexOf('\n') == -1) {
+      return value;
+    }
+
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.benchmarks;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.TimeReport;
+import de.muspellheim.activitysampling.domain.TimeSummary;
+import de.muspellheim.activitysampling.domain.Timesheet;
+import de.muspellheim.activitysampling.domain.WorkingDay;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AggregationBenchmarks {
+  @Param({"1000", "100000", "10000000"})
+  public int activityCount;
+
+  private List<Activity> activities;
+  private LocalDate today;
+
+  @Setup
+  public void setUp() {
+    activities = new ActivityGenerator().generate(activityCount);
+    today = ActivityGenerator.lastDate(activityCount);
+  }
+
+  @Benchmark
+  public TimeReport timeReport() {
+    return TimeReport.from(activities);
+  }
+
+  @Benchmark
+  public Timesheet timesheet() {
+    return Timesheet.from(activities);
+  }
+
+  @Benchmark
+  public List<WorkingDay> workingDays() {
+    return WorkingDay.from(activities);
+  }
+
+  @Benchmark
+  public TimeSummary timeSummary() {
+    return TimeSummary.from(today, activities);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.benchmarks;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.infrastructure.CsvActivities;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class AppendBenchmarks {
+  private static final int ACTIVITY_COUNT = 100_000;
+
+  @Param({"OS_BUFFER", "FSYNC"})
+  public CsvActivities.Durability durability;
+
+  @Param({"PT0S", "PT0.001S"})
+  public String groupCommitWindow;
+
+  private Path directory;
+  private List<Activity> activities;
+  private CsvActivities csvActivities;
+  private final AtomicInteger next = new AtomicInteger();
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("activity-sampling-benchmarks");
+    activities = new ActivityGenerator().generate(ACTIVITY_COUNT);
+    csvActivities =
+        new CsvActivities(
+            directory.resolve("activity-log.csv"), Duration.parse(groupCommitWindow), durability);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    csvActivities.close();
+    Benchmarks.deleteDirectory(directory);
+  }
+
+  @Benchmark
+  public void append() throws Exception {
+    var index = Math.floorMod(next.getAndIncrement(), ACTIVITY_COUNT);
+    csvActivities.append(activities.get(index));
+  }
+}
@@ -0,0 +1,23 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+class Benchmarks {
+  private Benchmarks() {}
+
+  static void deleteDirectory(Path directory) throws IOException {
+    try (var files = Files.walk(directory)) {
+      for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.benchmarks;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.infrastructure.CsvActivities;
+import de.muspellheim.activitysampling.infrastructure.MappedCsvActivities;
+import de.muspellheim.activitysampling.infrastructure.ResidentActivities;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindInPeriodBenchmarks {
+  @Param({"1000", "100000", "10000000"})
+  public int activityCount;
+
+  @Param({"DAYS", "WEEKS", "MONTHS", "YEARS"})
+  public ChronoUnit period;
+
+  private Path directory;
+  private CsvActivities csvActivities;
+  private MappedCsvActivities mappedCsvActivities;
+  private CsvActivities residentLog;
+  private ResidentActivities residentActivities;
+  private LocalDate from;
+  private LocalDate to;
+
+  @Setup
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("activity-sampling-benchmarks");
+    var file = directory.resolve("activity-log.csv");
+    new ActivityGenerator().writeCsv(file, activityCount);
+    csvActivities = new CsvActivities(file);
+    mappedCsvActivities = new MappedCsvActivities(file);
+    residentLog = new CsvActivities(file);
+    residentActivities = new ResidentActivities(residentLog);
+
+    var lastDate = ActivityGenerator.lastDate(activityCount);
+    var days = ChronoUnit.DAYS.between(ActivityGenerator.START_DATE, lastDate);
+    from = ActivityGenerator.START_DATE.plusDays(days / 2);
+    to = from.plus(1, period).minusDays(1);
+    // build the date index and load the resident activities before measuring
+    csvActivities.findInPeriod(from, to);
+    residentActivities.findInPeriod(from, to);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    csvActivities.close();
+    mappedCsvActivities.close();
+    residentLog.close();
+    Benchmarks.deleteDirectory(directory);
+  }
+
+  @Benchmark
+  public List<Activity> csvActivities() throws Exception {
+    return csvActivities.findInPeriod(from, to);
+  }
+
+  @Benchmark
+  public List<Activity> mappedCsvActivities() throws Exception {
+    return mappedCsvActivities.findInPeriod(from, to);
+  }
+
+  @Benchmark
+  public List<Activity> residentActivities() throws Exception {
+    return residentActivities.findInPeriod(from, to);
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.benchmarks;
+
+import de.muspellheim.activitysampling.infrastructure.CsvActivities;
+import de.muspellheim.activitysampling.infrastructure.ResidentActivities;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.time.LocalDate;
+
+public class MemoryFootprint {
+  private static final int ACTIVITY_COUNT = 1_000_000;
+
+  private MemoryFootprint() {}
+
+  public static void main(String[] args) throws Exception {
+    var count = args.length > 0 ? Integer.parseInt(args[0]) : ACTIVITY_COUNT;
+    var directory = Files.createTempDirectory("activity-sampling-memory");
+    try {
+      var file = directory.resolve("activity-log.csv");
+      new ActivityGenerator().writeCsv(file, count);
+      var log = new CsvActivities(file);
+
+      var baseline = usedHeap();
+      var activities = log.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+      print("List<Activity>", usedHeap() - baseline, count);
+      Reference.reachabilityFence(activities);
+
+      baseline = usedHeap();
+      var resident = new ResidentActivities(log);
+      resident.findInPeriod(LocalDate.MIN, LocalDate.MIN);
+      print("ResidentActivities", usedHeap() - baseline, count);
+      Reference.reachabilityFence(resident);
+    } finally {
+      Benchmarks.deleteDirectory(directory);
+    }
+  }
+
+  private static void print(String name, long bytes, int count) {
+    System.out.printf(
+        "%-20s %,15d bytes %,8.1f bytes/activity%n", name, bytes, (double) bytes / count);
+  }
+
+  private static long usedHeap() throws InterruptedException {
+    var runtime = Runtime.getRuntime();
+    for (var i = 0; i < 3; i++) {
+      System.gc();
+      Thread.sleep(100);
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.benchmarks;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.infrastructure.BinaryActivities;
+import de.muspellheim.activitysampling.infrastructure.CsvActivities;
+import de.muspellheim.activitysampling.infrastructure.MappedCsvActivities;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParseBenchmarks {
+  @Param({"1000", "100000", "10000000"})
+  public int activityCount;
+
+  private Path directory;
+  private CsvActivities csvActivities;
+  private CsvActivities parallelCsvActivities;
+  private MappedCsvActivities mappedCsvActivities;
+  private BinaryActivities binaryActivities;
+
+  @Setup
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("activity-sampling-benchmarks");
+    var file = directory.resolve("activity-log.csv");
+    new ActivityGenerator().writeCsv(file, activityCount);
+    csvActivities = new CsvActivities(file);
+    parallelCsvActivities =
+        new CsvActivities(
+            file,
+            Duration.ZERO,
+            CsvActivities.Durability.OS_BUFFER,
+            Runtime.getRuntime().availableProcessors());
+    mappedCsvActivities = new MappedCsvActivities(file);
+    binaryActivities = new BinaryActivities(directory.resolve("activity-log-binary"));
+    binaryActivities.importFrom(csvActivities);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    csvActivities.close();
+    parallelCsvActivities.close();
+    mappedCsvActivities.close();
+    binaryActivities.close();
+    Benchmarks.deleteDirectory(directory);
+  }
+
+  @Benchmark
+  public List<Activity> csvActivities() throws Exception {
+    return csvActivities.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+  }
+
+  @Benchmark
+  public List<Activity> parallelCsvActivities() throws Exception {
+    return parallelCsvActivities.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+  }
+
+  @Benchmark
+  public List<Activity> mappedCsvActivities() throws Exception {
+    return mappedCsvActivities.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+  }
+
+  @Benchmark
+  public List<Activity> binaryActivities() throws Exception {
+    return binaryActivities.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.benchmarks;
+
+import de.muspellheim.activitysampling.ui.ActivitySamplingApplication;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javafx.application.Application;
+import javafx.stage.Stage;
+
+public class StartupBenchmark {
+  private static final int ACTIVITY_COUNT = 100_000;
+  private static final int RUNS = 10;
+  private static final String CHILD_ARG = "--child";
+  private static final String FIRST_FRAME = "first-frame";
+
+  private StartupBenchmark() {}
+
+  public static void main(String[] args) throws Exception {
+    if (args.length > 0 && args[0].equals(CHILD_ARG)) {
+      Application.launch(FirstFrameApplication.class, Arrays.copyOfRange(args, 1, args.length));
+      return;
+    }
+
+    var runs = args.length > 0 ? Integer.parseInt(args[0]) : RUNS;
+    var directory = Files.createTempDirectory("activity-sampling-startup");
+    try {
+      var file = directory.resolve("activity-log.csv");
+      new ActivityGenerator().writeCsv(file, ACTIVITY_COUNT);
+
+      var times = new ArrayList<Long>();
+      for (var i = 0; i < runs; i++) {
+        times.add(measureTimeToFirstFrame(file));
+      }
+      print(times);
+    } finally {
+      Benchmarks.deleteDirectory(directory);
+    }
+  }
+
+  private static long measureTimeToFirstFrame(Path file) throws Exception {
+    // Measured from starting the process until the first layout pulse of the main window.
+    var java = ProcessHandle.current().info().command().orElse("java");
+    var command =
+        List.of(
+            java,
+            "-cp",
+            System.getProperty("java.class.path"),
+            StartupBenchmark.class.getName(),
+            CHILD_ARG,
+            "--log-file=" + file);
+    var start = System.nanoTime();
+    var process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    try (var reader =
+        new BufferedReader(
+            new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.equals(FIRST_FRAME)) {
+          var elapsed = System.nanoTime() - start;
+          process.destroy();
+          process.waitFor();
+          return TimeUnit.NANOSECONDS.toMillis(elapsed);
+        }
+      }
+    }
+    throw new IOException("Application exited before showing its window: " + process.waitFor());
+  }
+
+  private static void print(List<Long> times) {
+    var sorted = new ArrayList<>(times);
+    Collections.sort(sorted);
+    System.out.printf(
+        "time to first frame: min %,d ms, median %,d ms, max %,d ms (%d runs)%n",
+        sorted.get(0), sorted.get(sorted.size() / 2), sorted.get(sorted.size() - 1), sorted.size());
+  }
+
+  public static class FirstFrameApplication extends ActivitySamplingApplication {
+    // Launched like the application itself, so init() and the launcher are on the measured path.
+    @Override
+    public void start(Stage primaryStage) {
+      super.start(primaryStage);
+      primaryStage
+          .getScene()
+          .addPostLayoutPulseListener(
+              new Runnable() {
+                private boolean done;
+
+                @Override
+                public void run() {
+                  if (done) {
+                    return;
+                  }
+
+                  done = true;
+                  System.out.println(FIRST_FRAME);
+                  System.out.flush();
+                }
+              });
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.benchmarks;
+
+import de.muspellheim.activitysampling.infrastructure.TemporalParsers;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TemporalParserBenchmarks {
+  @Param({"2022-11-16T13:24:59", "2022-11-16T13:24"})
+  public String timestamp;
+
+  @Param({"PT20M", "PT1H30M"})
+  public String duration;
+
+  @Benchmark
+  public LocalDateTime jdkTimestamp() {
+    return LocalDateTime.parse(timestamp);
+  }
+
+  @Benchmark
+  public LocalDateTime fastTimestamp() {
+    return TemporalParsers.parseTimestamp(timestamp);
+  }
+
+  @Benchmark
+  public Duration jdkDuration() {
+    return Duration.parse(duration);
+  }
+
+  @Benchmark
+  public Duration fastDuration() {
+    return TemporalParsers.parseDuration(duration);
+  }
+}
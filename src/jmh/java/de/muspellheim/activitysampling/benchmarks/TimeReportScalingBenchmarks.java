@@ -0,0 +1,58 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.benchmarks;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.TimeReport;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// The time per activity must stay flat while the number of distinct tasks grows. A quadratic
+// aggregation shows up as a time growing with distinctTasks.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TimeReportScalingBenchmarks {
+  private static final int ACTIVITY_COUNT = 200_000;
+
+  @Param({"100", "2000", "20000", "200000"})
+  public int distinctTasks;
+
+  private List<Activity> activities;
+
+  @Setup
+  public void setUp() {
+    var timestamp = LocalDateTime.of(2000, 1, 1, 8, 0);
+    activities = new ArrayList<>(ACTIVITY_COUNT);
+    for (var i = 0; i < ACTIVITY_COUNT; i++) {
+      activities.add(
+          Activity.builder()
+              .timestamp(timestamp)
+              .duration(Duration.ofMinutes(15))
+              .client("Client #" + i % 10)
+              .project("Project #" + i % 100)
+              .task("Task #" + i % distinctTasks)
+              .notes("")
+              .build());
+    }
+  }
+
+  @Benchmark
+  public TimeReport timeReport() {
+    return TimeReport.from(activities);
+  }
+}
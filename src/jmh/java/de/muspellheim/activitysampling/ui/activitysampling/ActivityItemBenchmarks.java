@@ -0,0 +1,93 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.ui.activitysampling;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.WorkingDay;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ActivityItemBenchmarks {
+  // In the package of ActivityItemFactory, which is not visible outside of it.
+  private static final LocalDate START_DATE = LocalDate.of(2000, 1, 1);
+  private static final int DAYS = 31;
+  private static final Locale LOCALE = Locale.GERMANY;
+
+  @Param({"24", "96", "288"})
+  public int activitiesPerDay;
+
+  private List<WorkingDay> workingDays;
+  private ActivityItemFactory factory;
+
+  @Setup
+  public void setUp() {
+    var activities = new ArrayList<Activity>();
+    var start = START_DATE.atStartOfDay();
+    var interval = Duration.ofDays(1).dividedBy(activitiesPerDay);
+    for (var i = 0; i < DAYS * activitiesPerDay; i++) {
+      activities.add(
+          Activity.builder()
+              .timestamp(start.plus(interval.multipliedBy(i)))
+              .duration(interval)
+              .client("Client " + i % 5)
+              .project("Project " + i % 20)
+              .task("Task " + i % 100)
+              .notes("")
+              .build());
+    }
+    workingDays = WorkingDay.from(activities);
+    factory = new ActivityItemFactory(LOCALE);
+  }
+
+  @Benchmark
+  public List<ActivityItem> formatterPerItem() {
+    // The item generation before formatters were cached.
+    var items = new ArrayList<ActivityItem>();
+    for (var day : workingDays) {
+      var dateFormatter = DateTimeFormatter.ofLocalizedDate(FormatStyle.FULL).withLocale(LOCALE);
+      items.add(new ActivityItem(day.date().format(dateFormatter), null, null, null, null));
+      for (var activity : day.activities()) {
+        var timeFormatter = DateTimeFormatter.ofLocalizedTime(FormatStyle.SHORT).withLocale(LOCALE);
+        items.add(
+            new ActivityItem(
+                activity.timestamp().format(timeFormatter)
+                    + " - "
+                    + activity.project()
+                    + " ("
+                    + activity.client()
+                    + ") "
+                    + activity.task(),
+                activity.client(),
+                activity.project(),
+                activity.task(),
+                activity.notes()));
+      }
+    }
+    return items;
+  }
+
+  @Benchmark
+  public List<ActivityItem> activityItemFactory() {
+    return factory.newItems(workingDays);
+  }
+}
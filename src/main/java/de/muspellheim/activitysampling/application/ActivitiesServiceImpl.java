@@ -7,24 +7,36 @@ package de.muspellheim.activitysampling.application;
 
 import de.muspellheim.activitysampling.domain.Activities;
 import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.ActivityRollups;
+import de.muspellheim.activitysampling.domain.ActivityTotal;
 import de.muspellheim.activitysampling.domain.RecentActivities;
 import de.muspellheim.activitysampling.domain.TimeReport;
 import de.muspellheim.activitysampling.domain.Timesheet;
 import java.time.LocalDate;
-import java.time.Period;
+import java.util.List;
 
 public class ActivitiesServiceImpl implements ActivitiesService {
+  private static final int CACHE_CAPACITY = 32;
 
   private final Activities activities;
+  private final ActivityRollups rollups;
+  private final QueryCache cache = new QueryCache(CACHE_CAPACITY);
 
   public ActivitiesServiceImpl(Activities activities) {
+    this(activities, new AggregatingRollups(activities));
+  }
+
+  public ActivitiesServiceImpl(Activities activities, ActivityRollups rollups) {
     this.activities = activities;
+    this.rollups = rollups;
   }
 
   @Override
   public void logActivity(Activity activity) {
     try {
       activities.append(activity);
+      rollups.add(activity);
+      cache.invalidate();
     } catch (Exception e) {
       throw new IllegalStateException("Failed to log activity: %s.".formatted(activity), e);
     }
@@ -34,9 +46,13 @@ public class ActivitiesServiceImpl implements ActivitiesService {
   public RecentActivities getRecentActivities() {
     try {
       var today = LocalDate.now();
-      var start = today.minus(Period.ofDays(31));
-      var activities = this.activities.findInPeriod(start, today);
-      return RecentActivities.from(today, activities);
+      var start = RecentActivities.start(today);
+      return cache.get(
+          "recentActivities",
+          start,
+          today,
+          activities.changeToken(),
+          () -> RecentActivities.from(today, activities.findRecent(start, today)));
     } catch (Exception e) {
       throw new IllegalStateException("Failed to get recent activities.", e);
     }
@@ -45,8 +61,12 @@ public class ActivitiesServiceImpl implements ActivitiesService {
   @Override
   public Timesheet getTimesheet(LocalDate from, LocalDate to) {
     try {
-      var activities = this.activities.findInPeriod(from, to);
-      return Timesheet.from(activities);
+      return cache.get(
+          "timesheet",
+          from,
+          to,
+          activities.changeToken(),
+          () -> new Timesheet(rollups.findInPeriod(from, to)));
     } catch (Exception e) {
       throw new IllegalStateException(
           "Failed to get timesheet from %s to %s.".formatted(from, to), e);
@@ -56,10 +76,31 @@ public class ActivitiesServiceImpl implements ActivitiesService {
   @Override
   public TimeReport getTimeReport(LocalDate from, LocalDate to) {
     try {
-      var activities = this.activities.findInPeriod(from, to);
-      return TimeReport.from(activities);
+      return cache.get(
+          "timeReport",
+          from,
+          to,
+          activities.changeToken(),
+          () -> TimeReport.from(new Timesheet(rollups.findInPeriod(from, to))));
     } catch (Exception e) {
       throw new IllegalStateException("Failed to get report from %s to %s.".formatted(from, to), e);
     }
   }
+
+  public CacheStatistics getCacheStatistics() {
+    return cache.getStatistics();
+  }
+
+  private record AggregatingRollups(Activities activities) implements ActivityRollups {
+    @Override
+    public void add(Activity activity) {
+      // aggregated on query
+    }
+
+    @Override
+    public List<Timesheet.Entry> findInPeriod(LocalDate from, LocalDate to) throws Exception {
+      var totals = activities.sumDurations(from, to, ActivityTotal.ALL_DIMENSIONS);
+      return Timesheet.fromTotals(totals).entries();
+    }
+  }
 }
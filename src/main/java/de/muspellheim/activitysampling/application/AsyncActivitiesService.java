@@ -0,0 +1,67 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.application;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.RecentActivities;
+import de.muspellheim.activitysampling.domain.TimeReport;
+import de.muspellheim.activitysampling.domain.Timesheet;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class AsyncActivitiesService {
+  private final Supplier<ActivitiesService> activitiesService;
+  private final Executor executor;
+
+  public AsyncActivitiesService(ActivitiesService activitiesService, Executor executor) {
+    this(() -> activitiesService, executor);
+  }
+
+  // The service is resolved on the executor, so opening the storage does not block the caller.
+  public AsyncActivitiesService(Supplier<ActivitiesService> activitiesService, Executor executor) {
+    this.activitiesService = activitiesService;
+    this.executor = executor;
+  }
+
+  public CompletableFuture<Void> logActivity(Activity activity) {
+    return CompletableFuture.runAsync(
+        () -> activitiesService.get().logActivity(activity), executor);
+  }
+
+  public CompletableFuture<RecentActivities> getRecentActivities() {
+    return query(ActivitiesService::getRecentActivities);
+  }
+
+  public CompletableFuture<Timesheet> getTimesheet(LocalDate from, LocalDate to) {
+    return query(service -> service.getTimesheet(from, to));
+  }
+
+  public CompletableFuture<TimeReport> getTimeReport(LocalDate from, LocalDate to) {
+    return query(service -> service.getTimeReport(from, to));
+  }
+
+  private <T> CompletableFuture<T> query(Function<ActivitiesService, T> query) {
+    // A query cancelled while waiting for the executor is skipped. A running query is not
+    // interrupted, its result is discarded.
+    var result = new CompletableFuture<T>();
+    executor.execute(
+        () -> {
+          if (result.isDone()) {
+            return;
+          }
+
+          try {
+            result.complete(query.apply(activitiesService.get()));
+          } catch (Throwable e) {
+            result.completeExceptionally(e);
+          }
+        });
+    return result;
+  }
+}
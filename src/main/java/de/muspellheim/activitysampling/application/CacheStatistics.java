@@ -0,0 +1,8 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.application;
+
+public record CacheStatistics(long hits, long misses) {}
@@ -0,0 +1,66 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.application;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+class QueryCache {
+  private final Map<Key, Object> entries;
+  private Object changeToken;
+  private long hits;
+  private long misses;
+
+  QueryCache(int capacity) {
+    entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  synchronized <T> T get(
+      String query, LocalDate from, LocalDate to, Object changeToken, Callable<T> loader)
+      throws Exception {
+    if (changeToken == null) {
+      misses++;
+      return loader.call();
+    }
+    if (!changeToken.equals(this.changeToken)) {
+      entries.clear();
+      this.changeToken = changeToken;
+    }
+
+    var key = new Key(query, from, to);
+    @SuppressWarnings("unchecked")
+    var value = (T) entries.get(key);
+    if (value != null) {
+      hits++;
+      return value;
+    }
+
+    misses++;
+    value = Objects.requireNonNull(loader.call(), "The query result cannot be null.");
+    entries.put(key, value);
+    return value;
+  }
+
+  synchronized void invalidate() {
+    entries.clear();
+    changeToken = null;
+  }
+
+  synchronized CacheStatistics getStatistics() {
+    return new CacheStatistics(hits, misses);
+  }
+
+  private record Key(String query, LocalDate from, LocalDate to) {}
+}
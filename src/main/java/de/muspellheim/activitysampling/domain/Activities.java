@@ -7,9 +7,30 @@ package de.muspellheim.activitysampling.domain;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface Activities {
   void append(Activity activity) throws Exception;
 
   List<Activity> findInPeriod(LocalDate from, LocalDate to) throws Exception;
+
+  default List<Activity> findRecent(LocalDate from, LocalDate to) throws Exception {
+    return findInPeriod(from, to);
+  }
+
+  default Stream<Activity> streamInPeriod(LocalDate from, LocalDate to) throws Exception {
+    return findInPeriod(from, to).stream();
+  }
+
+  default List<ActivityTotal> sumDurations(
+      LocalDate from, LocalDate to, Set<ActivityTotal.Dimension> dimensions) throws Exception {
+    try (var activities = streamInPeriod(from, to)) {
+      return ActivityTotal.sum(activities::iterator, dimensions);
+    }
+  }
+
+  default Object changeToken() throws Exception {
+    return null;
+  }
 }
@@ -0,0 +1,15 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ActivityRollups {
+  void add(Activity activity) throws Exception;
+
+  List<Timesheet.Entry> findInPeriod(LocalDate from, LocalDate to) throws Exception;
+}
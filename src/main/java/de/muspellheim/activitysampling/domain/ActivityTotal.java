@@ -0,0 +1,74 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.domain;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.Builder;
+
+@Builder
+public record ActivityTotal(
+    LocalDate date, String client, String project, String task, Duration duration) {
+  public enum Dimension {
+    DATE,
+    CLIENT,
+    PROJECT,
+    TASK,
+  }
+
+  public static final Set<Dimension> ALL_DIMENSIONS = Set.of(Dimension.values());
+
+  private static final Comparator<ActivityTotal> ORDER =
+      Comparator.comparing(ActivityTotal::date, Comparator.nullsFirst(Comparator.naturalOrder()))
+          .thenComparing(ActivityTotal::client, Comparator.nullsFirst(Comparator.naturalOrder()))
+          .thenComparing(ActivityTotal::project, Comparator.nullsFirst(Comparator.naturalOrder()))
+          .thenComparing(ActivityTotal::task, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+  public ActivityTotal {
+    Objects.requireNonNull(duration, "The duration cannot be null.");
+  }
+
+  public static List<ActivityTotal> sum(Iterable<Activity> activities, Set<Dimension> dimensions) {
+    var durations = new HashMap<Key, long[]>();
+    for (var activity : activities) {
+      var key =
+          new Key(
+              dimensions.contains(Dimension.DATE) ? activity.timestamp().toLocalDate() : null,
+              dimensions.contains(Dimension.CLIENT) ? activity.client() : null,
+              dimensions.contains(Dimension.PROJECT) ? activity.project() : null,
+              dimensions.contains(Dimension.TASK) ? activity.task() : null);
+      durations.computeIfAbsent(key, k -> new long[1])[0] += activity.duration().toNanos();
+    }
+
+    var totals = new ArrayList<ActivityTotal>(durations.size());
+    for (var group : durations.entrySet()) {
+      var key = group.getKey();
+      totals.add(
+          ActivityTotal.builder()
+              .date(key.date())
+              .client(key.client())
+              .project(key.project())
+              .task(key.task())
+              .duration(Duration.ofNanos(group.getValue()[0]))
+              .build());
+    }
+    return sort(totals);
+  }
+
+  public static List<ActivityTotal> sort(List<ActivityTotal> totals) {
+    var sorted = new ArrayList<>(totals);
+    sorted.sort(ORDER);
+    return List.copyOf(sorted);
+  }
+
+  private record Key(LocalDate date, String client, String project, String task) {}
+}
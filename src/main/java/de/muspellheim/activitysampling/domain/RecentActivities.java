@@ -6,18 +6,44 @@
 package de.muspellheim.activitysampling.domain;
 
 import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 public record RecentActivities(List<WorkingDay> workingDays, TimeSummary timeSummary) {
   public static final RecentActivities EMPTY = new RecentActivities(List.of(), TimeSummary.ZERO);
 
+  private static final Period WINDOW = Period.ofDays(31);
+
   public RecentActivities {
     Objects.requireNonNull(workingDays, "The working days must not be null.");
     Objects.requireNonNull(timeSummary, "The time summary must not be null.");
   }
 
+  public static LocalDate start(LocalDate today) {
+    return today.minus(WINDOW);
+  }
+
   public static RecentActivities from(LocalDate today, List<Activity> activities) {
-    return new RecentActivities(WorkingDay.from(activities), TimeSummary.from(today, activities));
+    var days = WorkingDay.from(activities);
+    days.removeIf(day -> day.date().isBefore(start(today)));
+    return new RecentActivities(days, TimeSummary.from(today, activities));
+  }
+
+  public RecentActivities plus(LocalDate today, Activity activity) {
+    var date = activity.timestamp().toLocalDate();
+    var days = new ArrayList<>(workingDays);
+    var index = 0;
+    while (index < days.size() && days.get(index).date().isAfter(date)) {
+      index++;
+    }
+    if (index < days.size() && days.get(index).date().equals(date)) {
+      days.set(index, days.get(index).plus(activity));
+    } else {
+      days.add(index, new WorkingDay(date, List.of(activity)));
+    }
+    days.removeIf(day -> day.date().isBefore(start(today)));
+    return new RecentActivities(days, timeSummary.plus(today, activity));
   }
 }
@@ -11,11 +11,15 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import lombok.Builder;
 
 public record TimeReport(List<Entry> entries) {
+  private static final Comparator<Entry> ENTRY_ORDER =
+      Comparator.comparing(Entry::client).thenComparing(Entry::project).thenComparing(Entry::task);
 
   @Builder
   public record Entry(String client, String project, String task, Duration hours) {
@@ -31,43 +35,38 @@ public record TimeReport(List<Entry> entries) {
     }
   }
 
-  public static TimeReport from(List<Activity> activities) {
-    var groups = new ArrayList<Entry>();
-    for (var entry : activities) {
-      var index =
-          Lists.indexOf(
-              groups,
-              g ->
-                  g.client().equals(entry.client())
-                      && g.project().equals(entry.project())
-                      && g.task().equals(entry.task()));
-      if (index == -1) {
-        var group =
-            Entry.builder()
-                .client(entry.client())
-                .project(entry.project())
-                .task(entry.task())
-                .hours(entry.duration())
-                .build();
-        groups.add(group);
-        groups.sort(
-            Comparator.comparing(Entry::client)
-                .thenComparing(Entry::project)
-                .thenComparing(Entry::task));
-      } else {
-        var group = groups.get(index);
-        var accumulatedHours = group.hours().plus(entry.duration());
-        group =
-            Entry.builder()
-                .client(group.client())
-                .project(group.project())
-                .task(group.task())
-                .hours(accumulatedHours)
-                .build();
-        groups.set(index, group);
-      }
+  public static TimeReport from(Iterable<Activity> activities) {
+    var hours = new HashMap<Key, long[]>();
+    for (var activity : activities) {
+      var key = new Key(activity.client(), activity.project(), activity.task());
+      hours.computeIfAbsent(key, k -> new long[1])[0] += activity.duration().toNanos();
     }
-    return new TimeReport(List.copyOf(groups));
+    return create(hours);
+  }
+
+  public static TimeReport from(Timesheet timesheet) {
+    var hours = new HashMap<Key, long[]>();
+    for (var entry : timesheet.entries()) {
+      var key = new Key(entry.client(), entry.project(), entry.task());
+      hours.computeIfAbsent(key, k -> new long[1])[0] += entry.hours().toNanos();
+    }
+    return create(hours);
+  }
+
+  private static TimeReport create(Map<Key, long[]> hours) {
+    var entries = new ArrayList<Entry>(hours.size());
+    for (var group : hours.entrySet()) {
+      var key = group.getKey();
+      entries.add(
+          Entry.builder()
+              .client(key.client())
+              .project(key.project())
+              .task(key.task())
+              .hours(Duration.ofNanos(group.getValue()[0]))
+              .build());
+    }
+    entries.sort(ENTRY_ORDER);
+    return new TimeReport(List.copyOf(entries));
   }
 
   public TimeReport groupByClient() {
@@ -173,4 +172,6 @@ public record TimeReport(List<Entry> entries) {
     }
     return total;
   }
+
+  private record Key(String client, String project, String task) {}
 }
@@ -7,7 +7,6 @@ package de.muspellheim.activitysampling.domain;
 
 import java.time.Duration;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Objects;
 import lombok.Builder;
 
@@ -25,7 +24,7 @@ public record TimeSummary(
     Objects.requireNonNull(hoursThisMonth, "The hours this month must not be null.");
   }
 
-  public static TimeSummary from(LocalDate today, List<Activity> activities) {
+  public static TimeSummary from(LocalDate today, Iterable<Activity> activities) {
     var hoursToday = Duration.ZERO;
     var hoursYesterday = Duration.ZERO;
     var hoursThisWeek = Duration.ZERO;
@@ -57,6 +56,21 @@ public record TimeSummary(
         .build();
   }
 
+  public TimeSummary plus(LocalDate today, Activity activity) {
+    var date = activity.timestamp().toLocalDate();
+    if (date.isAfter(today)) {
+      return this;
+    }
+
+    var duration = activity.duration();
+    return TimeSummary.builder()
+        .hoursToday(isToday(today, date) ? hoursToday.plus(duration) : hoursToday)
+        .hoursYesterday(isYesterday(today, date) ? hoursYesterday.plus(duration) : hoursYesterday)
+        .hoursThisWeek(isSameWeek(today, date) ? hoursThisWeek.plus(duration) : hoursThisWeek)
+        .hoursThisMonth(isSameMonth(today, date) ? hoursThisMonth.plus(duration) : hoursThisMonth)
+        .build();
+  }
+
   private static boolean isToday(LocalDate today, LocalDate other) {
     return today.equals(other);
   }
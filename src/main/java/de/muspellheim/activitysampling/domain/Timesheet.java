@@ -5,13 +5,13 @@
 
 package de.muspellheim.activitysampling.domain;
 
-import de.muspellheim.activitysampling.util.Lists;
 import de.muspellheim.activitysampling.util.Strings;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 import lombok.Builder;
@@ -21,6 +21,11 @@ public record Timesheet(List<Entry> entries) {
   @Builder
   public record Entry(LocalDate date, String client, String project, String task, Duration hours)
       implements Comparable<Entry> {
+    private static final Comparator<Entry> ORDER =
+        Comparator.comparing(Entry::date)
+            .thenComparing(Entry::client)
+            .thenComparing(Entry::project)
+            .thenComparing(Entry::task);
 
     public Entry {
       Objects.requireNonNull(date, "The date cannot be null.");
@@ -35,11 +40,7 @@ public record Timesheet(List<Entry> entries) {
 
     @Override
     public int compareTo(Entry other) {
-      return Comparator.comparing(Entry::date)
-          .thenComparing(Entry::client)
-          .thenComparing(Entry::project)
-          .thenComparing(Entry::task)
-          .compare(this, other);
+      return ORDER.compare(this, other);
     }
   }
 
@@ -47,46 +48,52 @@ public record Timesheet(List<Entry> entries) {
     Objects.requireNonNull(entries, "The entries must not be null.");
   }
 
-  public static Timesheet from(List<Activity> activities) {
-    var entries = new ArrayList<Entry>();
+  public static Timesheet from(Iterable<Activity> activities) {
+    var hours = new HashMap<Key, long[]>();
     for (var activity : activities) {
-      var date = activity.timestamp().toLocalDate();
-      var index =
-          Lists.indexOf(
-              entries,
-              e ->
-                  e.date().equals(date)
-                      && e.client().equals(activity.client())
-                      && e.project().equals(activity.project())
-                      && e.task().equals(activity.task()));
-      if (index == -1) {
-        var entry =
-            Entry.builder()
-                .date(date)
-                .client(activity.client())
-                .project(activity.project())
-                .task(activity.task())
-                .hours(activity.duration())
-                .build();
-        entries.add(entry);
-        Collections.sort(entries);
-      } else {
-        var entry = entries.get(index);
-        var accumulatedHours = entry.hours().plus(activity.duration());
-        entry =
-            Entry.builder()
-                .date(entry.date())
-                .client(entry.client())
-                .project(entry.project())
-                .task(entry.task())
-                .hours(accumulatedHours)
-                .build();
-        entries.set(index, entry);
-      }
+      var key =
+          new Key(
+              activity.timestamp().toLocalDate(),
+              activity.client(),
+              activity.project(),
+              activity.task());
+      hours.computeIfAbsent(key, k -> new long[1])[0] += activity.duration().toNanos();
     }
+
+    var entries = new ArrayList<Entry>(hours.size());
+    for (var group : hours.entrySet()) {
+      var key = group.getKey();
+      entries.add(
+          Entry.builder()
+              .date(key.date())
+              .client(key.client())
+              .project(key.project())
+              .task(key.task())
+              .hours(Duration.ofNanos(group.getValue()[0]))
+              .build());
+    }
+    Collections.sort(entries);
     return new Timesheet(List.copyOf(entries));
   }
 
+  public static Timesheet fromTotals(List<ActivityTotal> totals) {
+    var entries = new ArrayList<Entry>(totals.size());
+    for (var total : totals) {
+      entries.add(
+          Entry.builder()
+              .date(total.date())
+              .client(total.client())
+              .project(total.project())
+              .task(total.task())
+              .hours(total.duration())
+              .build());
+    }
+    Collections.sort(entries);
+    return new Timesheet(List.copyOf(entries));
+  }
+
+  private record Key(LocalDate date, String client, String project, String task) {}
+
   public Duration total() {
     var hours = entries.stream().map(Entry::hours).toList();
     var total = Duration.ZERO;
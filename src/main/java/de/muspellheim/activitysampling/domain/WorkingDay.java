@@ -5,12 +5,12 @@
 
 package de.muspellheim.activitysampling.domain;
 
-import de.muspellheim.activitysampling.util.Lists;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.TreeMap;
 
 public record WorkingDay(LocalDate date, List<Activity> activities) {
   public WorkingDay {
@@ -20,25 +20,30 @@ public record WorkingDay(LocalDate date, List<Activity> activities) {
   }
 
   public static List<WorkingDay> from(List<Activity> activities) {
-    var workingDays = new ArrayList<WorkingDay>();
+    var days = new TreeMap<LocalDate, List<Activity>>(Comparator.reverseOrder());
     for (var activity : activities) {
       var date = activity.timestamp().toLocalDate();
-      var index = Lists.indexOf(workingDays, d -> d.date().equals(date));
-      if (index == -1) {
-        var day = new WorkingDay(date, List.of(activity));
-        workingDays.add(day);
-        workingDays.sort(Comparator.comparing(WorkingDay::date).reversed());
-      } else {
-        var workingDay = workingDays.get(index);
-
-        var list = new ArrayList<>(workingDay.activities());
-        list.add(activity);
-        list.sort(Comparator.comparing(Activity::timestamp).reversed());
+      days.computeIfAbsent(date, d -> new ArrayList<>()).add(activity);
+    }
 
-        workingDay = new WorkingDay(date, list);
-        workingDays.set(index, workingDay);
-      }
+    var workingDays = new ArrayList<WorkingDay>(days.size());
+    for (var day : days.entrySet()) {
+      var list = day.getValue();
+      list.sort(Comparator.comparing(Activity::timestamp).reversed());
+      workingDays.add(new WorkingDay(day.getKey(), list));
     }
     return workingDays;
   }
+
+  public WorkingDay plus(Activity activity) {
+    // Sorted by time descending, an activity is placed after those logged at the same time.
+    var index = 0;
+    while (index < activities.size()
+        && !activities.get(index).timestamp().isBefore(activity.timestamp())) {
+      index++;
+    }
+    var list = new ArrayList<>(activities);
+    list.add(index, activity);
+    return new WorkingDay(date, list);
+  }
 }
@@ -0,0 +1,239 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.infrastructure;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+class ActivityLogIndex {
+  private static final int MAGIC = 0x41534931;
+  private static final int HEADER_SIZE = Integer.BYTES + 2 * Long.BYTES + 1;
+  private static final int DATE_LENGTH = 10;
+
+  private final Path logFile;
+  private final Path file;
+
+  private long logSize = -1;
+  private long logModified = -1;
+  private boolean chronological;
+  private final NavigableMap<Long, Long> offsets = new TreeMap<>();
+
+  ActivityLogIndex(Path logFile) {
+    this.logFile = logFile;
+    this.file = logFile.resolveSibling(logFile.getFileName() + ".idx");
+  }
+
+  record Entry(LocalDate date, long offset) {}
+
+  synchronized OptionalLong seek(LocalDate date) throws IOException {
+    var attributes = Files.readAttributes(logFile, BasicFileAttributes.class);
+    if (!isCurrent(attributes)) {
+      load();
+      if (!isCurrent(attributes)) {
+        rebuild();
+      }
+    }
+    if (!chronological) {
+      return OptionalLong.empty();
+    }
+
+    var entry = offsets.ceilingEntry(date.toEpochDay());
+    return OptionalLong.of(entry != null ? entry.getValue() : logSize);
+  }
+
+  synchronized boolean isCurrent() throws IOException {
+    var attributes = Files.readAttributes(logFile, BasicFileAttributes.class);
+    if (!isCurrent(attributes)) {
+      load();
+    }
+    return isCurrent(attributes);
+  }
+
+  synchronized void appended(List<Entry> entries) {
+    try {
+      if (logSize == -1) {
+        load();
+      }
+      var lastDay = offsets.isEmpty() ? Long.MIN_VALUE : offsets.lastKey();
+      var offset = entries.get(0).offset();
+      if (offset == 0
+          || logSize != offset
+          || !chronological
+          || !isChronological(entries, lastDay)) {
+        invalidate();
+        return;
+      }
+
+      var attributes = Files.readAttributes(logFile, BasicFileAttributes.class);
+      try (var out = new RandomAccessFile(file.toFile(), "rw")) {
+        out.seek(out.length());
+        for (var entry : entries) {
+          var day = entry.date().toEpochDay();
+          if (day > lastDay) {
+            out.writeLong(day);
+            out.writeLong(entry.offset());
+            offsets.put(day, entry.offset());
+            lastDay = day;
+          }
+        }
+        out.seek(Integer.BYTES);
+        out.writeLong(attributes.size());
+        out.writeLong(attributes.lastModifiedTime().toMillis());
+      }
+      logSize = attributes.size();
+      logModified = attributes.lastModifiedTime().toMillis();
+    } catch (IOException e) {
+      // An index not matching the log is rebuilt with the next seek.
+      reset();
+    }
+  }
+
+  private static boolean isChronological(List<Entry> entries, long lastDay) {
+    var previousDay = lastDay;
+    for (var entry : entries) {
+      var day = entry.date().toEpochDay();
+      if (day < previousDay) {
+        return false;
+      }
+      previousDay = day;
+    }
+    return true;
+  }
+
+  private boolean isCurrent(BasicFileAttributes attributes) {
+    return logSize == attributes.size() && logModified == attributes.lastModifiedTime().toMillis();
+  }
+
+  private void load() throws IOException {
+    reset();
+    if (Files.notExists(file)) {
+      return;
+    }
+
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC) {
+        return;
+      }
+
+      var size = in.readLong();
+      var modified = in.readLong();
+      var ordered = in.readBoolean();
+      var entries = (Files.size(file) - HEADER_SIZE) / (2 * Long.BYTES);
+      for (var i = 0; i < entries; i++) {
+        offsets.put(in.readLong(), in.readLong());
+      }
+      logSize = size;
+      logModified = modified;
+      chronological = ordered;
+    } catch (EOFException e) {
+      reset();
+    }
+  }
+
+  private void rebuild() throws IOException {
+    reset();
+    var attributes = Files.readAttributes(logFile, BasicFileAttributes.class);
+    chronological = scan();
+    if (!chronological) {
+      offsets.clear();
+    }
+    logSize = attributes.size();
+    logModified = attributes.lastModifiedTime().toMillis();
+    store();
+  }
+
+  private boolean scan() throws IOException {
+    try (var in = Files.newInputStream(logFile)) {
+      var buffer = new byte[1 << 16];
+      var prefix = new byte[DATE_LENGTH];
+      var prefixLength = 0;
+      var recordStart = 0L;
+      var recordNumber = 0L;
+      var quoted = false;
+      var position = 0L;
+      int n;
+      while ((n = in.read(buffer)) != -1) {
+        for (var i = 0; i < n; i++, position++) {
+          var b = buffer[i];
+          if (recordNumber > 0 && prefixLength < DATE_LENGTH) {
+            prefix[prefixLength++] = b;
+          }
+          if (b == '"') {
+            quoted = !quoted;
+          } else if (b == '\n' && !quoted) {
+            if (recordNumber > 0 && !indexRecord(prefix, prefixLength, recordStart)) {
+              return false;
+            }
+            recordNumber++;
+            recordStart = position + 1;
+            prefixLength = 0;
+          }
+        }
+      }
+      return recordNumber == 0
+          || prefixLength == 0
+          || indexRecord(prefix, prefixLength, recordStart);
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+  }
+
+  private boolean indexRecord(byte[] prefix, int prefixLength, long recordStart) {
+    var day = parseDay(prefix, prefixLength);
+    var lastDay = offsets.isEmpty() ? Long.MIN_VALUE : offsets.lastKey();
+    if (day < lastDay) {
+      return false;
+    }
+    if (day > lastDay) {
+      offsets.put(day, recordStart);
+    }
+    return true;
+  }
+
+  private static long parseDay(byte[] prefix, int length) {
+    var text = new String(prefix, 0, length, StandardCharsets.US_ASCII);
+    return LocalDate.parse(text).toEpochDay();
+  }
+
+  private void store() throws IOException {
+    try (var out = new DataOutputStream(Files.newOutputStream(file))) {
+      out.writeInt(MAGIC);
+      out.writeLong(logSize);
+      out.writeLong(logModified);
+      out.writeBoolean(chronological);
+      for (var entry : offsets.entrySet()) {
+        out.writeLong(entry.getKey());
+        out.writeLong(entry.getValue());
+      }
+    }
+  }
+
+  private void invalidate() throws IOException {
+    reset();
+    Files.deleteIfExists(file);
+  }
+
+  private void reset() {
+    logSize = -1;
+    logModified = -1;
+    chronological = false;
+    offsets.clear();
+  }
+}
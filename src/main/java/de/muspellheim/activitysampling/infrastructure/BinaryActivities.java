@@ -0,0 +1,540 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.infrastructure;
+
+import de.muspellheim.activitysampling.domain.Activities;
+import de.muspellheim.activitysampling.domain.Activity;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BinaryActivities implements Activities, Closeable {
+  private static final int BATCH_SIZE = 10_000;
+  private static final String DICTIONARY_FILE = "dictionary.dat";
+  private static final String NOTES_FILE = "notes.heap";
+  private static final String IMPORT_SUFFIX = ".importing";
+  private static final long WINDOW_SIZE = 1L << 30;
+  // the widest column is mapped at once and indexed by int
+  private static final long MAX_ROWS = Integer.MAX_VALUE / Long.BYTES;
+  // set in the note end of a row without notes, to tell them apart from empty notes
+  private static final long NO_NOTES = Long.MIN_VALUE;
+
+  private enum Column {
+    DURATIONS("durations.col", Integer.BYTES),
+    CLIENTS("clients.col", Integer.BYTES),
+    PROJECTS("projects.col", Integer.BYTES),
+    TASKS("tasks.col", Integer.BYTES),
+    NOTE_ENDS("note-ends.col", Long.BYTES),
+    // written last, the number of timestamps is the number of committed rows
+    TIMESTAMPS("timestamps.col", Long.BYTES);
+
+    private final String fileName;
+    private final int width;
+
+    Column(String fileName, int width) {
+      this.fileName = fileName;
+      this.width = width;
+    }
+  }
+
+  private final Path directory;
+  private final Path dictionaryFile;
+  private final Path notesFile;
+
+  private final List<String> dictionary = new ArrayList<>();
+  private final Map<String, Integer> dictionaryIds = new HashMap<>();
+  private long dictionaryLength;
+
+  private Map<Column, FileChannel> columns;
+  private FileChannel dictionaryChannel;
+  private FileChannel notesChannel;
+
+  // Activities are usually appended in order. Reads binary search the timestamps while the rows
+  // checked so far are sorted and fall back to a scan otherwise.
+  private int checkedRows;
+  private boolean sorted = true;
+
+  public BinaryActivities(Path directory) {
+    this.directory = directory;
+    dictionaryFile = directory.resolve(DICTIONARY_FILE);
+    notesFile = directory.resolve(NOTES_FILE);
+  }
+
+  @Override
+  public void append(Activity activity) throws Exception {
+    appendAll(List.of(activity));
+  }
+
+  public synchronized void appendAll(List<Activity> activities) throws Exception {
+    try {
+      openForWriting();
+      loadDictionary();
+      write(activities);
+    } catch (Exception e) {
+      // Reload the dictionary and recover the files with the next write.
+      dictionaryLength = -1;
+      try {
+        closeChannels();
+      } catch (IOException closeException) {
+        e.addSuppressed(closeException);
+      }
+      throw new IOException("Failed to append activities to directory " + directory, e);
+    }
+  }
+
+  @Override
+  public synchronized List<Activity> findInPeriod(LocalDate from, LocalDate to) throws Exception {
+    try (var rows = new Rows()) {
+      var fromSecond = from.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+      var toSecond = to.atTime(LocalTime.MAX).toEpochSecond(ZoneOffset.UTC);
+      var activities = new ArrayList<Activity>();
+      if (isSorted(rows)) {
+        var end = rows.lowerBound(toSecond + 1);
+        for (var row = rows.lowerBound(fromSecond); row < end; row++) {
+          activities.add(rows.activity(row));
+        }
+      } else {
+        for (var row = 0; row < rows.size(); row++) {
+          var timestamp = rows.timestamp(row);
+          if (timestamp >= fromSecond && timestamp <= toSecond) {
+            activities.add(rows.activity(row));
+          }
+        }
+      }
+      return activities;
+    } catch (NoSuchFileException e) {
+      return List.of();
+    } catch (Exception e) {
+      throw new IOException("Failed to find activities in period from directory " + directory, e);
+    }
+  }
+
+  @Override
+  public synchronized Object changeToken() throws Exception {
+    try {
+      var file = directory.resolve(Column.TIMESTAMPS.fileName);
+      var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      return new FileState(attributes.size(), attributes.lastModifiedTime().toMillis());
+    } catch (NoSuchFileException e) {
+      return new FileState(-1, -1);
+    } catch (Exception e) {
+      throw new IOException("Failed to read attributes of directory " + directory, e);
+    }
+  }
+
+  public synchronized boolean isEmpty() throws Exception {
+    try {
+      return Files.size(directory.resolve(Column.TIMESTAMPS.fileName)) < Column.TIMESTAMPS.width;
+    } catch (NoSuchFileException e) {
+      return true;
+    } catch (Exception e) {
+      throw new IOException("Failed to read size of directory " + directory, e);
+    }
+  }
+
+  public synchronized int importFrom(Activities source) throws Exception {
+    try {
+      if (!isEmpty()) {
+        return 0;
+      }
+
+      // Import into a staging directory and move it into place when complete, so an interrupted
+      // import never leaves a partial store behind that would be taken for a complete one.
+      var staging = directory.resolveSibling(directory.getFileName() + IMPORT_SUFFIX);
+      deleteDirectory(staging);
+      int count;
+      try (var target = new BinaryActivities(staging)) {
+        count = target.importAll(source);
+      }
+      if (count == 0) {
+        deleteDirectory(staging);
+        return 0;
+      }
+
+      closeChannels();
+      deleteDirectory(directory);
+      Files.move(staging, directory, StandardCopyOption.ATOMIC_MOVE);
+      dictionaryLength = -1;
+      checkedRows = 0;
+      sorted = true;
+      return count;
+    } catch (Exception e) {
+      throw new IOException("Failed to import activities to directory " + directory, e);
+    }
+  }
+
+  private int importAll(Activities source) throws Exception {
+    var count = 0;
+    try (var activities = source.streamInPeriod(LocalDate.MIN, LocalDate.MAX)) {
+      var batch = new ArrayList<Activity>(BATCH_SIZE);
+      for (var activity : (Iterable<Activity>) activities::iterator) {
+        batch.add(activity);
+        if (batch.size() == BATCH_SIZE) {
+          appendAll(batch);
+          count += batch.size();
+          batch.clear();
+        }
+      }
+      appendAll(batch);
+      count += batch.size();
+    }
+    if (columns != null) {
+      dictionaryChannel.force(true);
+      notesChannel.force(true);
+      for (var channel : columns.values()) {
+        channel.force(true);
+      }
+    }
+    return count;
+  }
+
+  public synchronized int exportTo(CsvActivities target) throws Exception {
+    try (var rows = new Rows()) {
+      var batch = new ArrayList<Activity>(BATCH_SIZE);
+      for (var row = 0; row < rows.size(); row++) {
+        batch.add(rows.activity(row));
+        if (batch.size() == BATCH_SIZE) {
+          target.appendAll(batch);
+          batch.clear();
+        }
+      }
+      target.appendAll(batch);
+      return rows.size();
+    } catch (NoSuchFileException e) {
+      return 0;
+    } catch (Exception e) {
+      throw new IOException("Failed to export activities from directory " + directory, e);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    try {
+      closeChannels();
+    } catch (IOException e) {
+      throw new IOException("Failed to close directory " + directory, e);
+    }
+  }
+
+  private void write(List<Activity> activities) throws IOException {
+    if (activities.isEmpty()) {
+      return;
+    }
+
+    var rows = columns.get(Column.TIMESTAMPS).size() / Column.TIMESTAMPS.width;
+    if (rows + activities.size() > MAX_ROWS) {
+      throw new IOException("Directory cannot hold more than %d rows.".formatted(MAX_ROWS));
+    }
+
+    var buffers = new EnumMap<Column, ByteBuffer>(Column.class);
+    for (var column : Column.values()) {
+      buffers.put(column, ByteBuffer.allocate(activities.size() * column.width));
+    }
+    var strings = new ByteArrayOutputStream();
+    var notes = new ByteArrayOutputStream();
+    var notesEnd = notesChannel.size();
+    for (var activity : activities) {
+      var noteBytes = encode(activity.notes());
+      notes.writeBytes(noteBytes);
+      notesEnd += noteBytes.length;
+      buffers.get(Column.DURATIONS).putInt(seconds(activity.duration()));
+      buffers.get(Column.CLIENTS).putInt(id(activity.client(), strings));
+      buffers.get(Column.PROJECTS).putInt(id(activity.project(), strings));
+      buffers.get(Column.TASKS).putInt(id(activity.task(), strings));
+      var noteEnd = activity.notes() == null ? notesEnd | NO_NOTES : notesEnd;
+      buffers.get(Column.NOTE_ENDS).putLong(noteEnd);
+      buffers.get(Column.TIMESTAMPS).putLong(activity.timestamp().toEpochSecond(ZoneOffset.UTC));
+    }
+
+    writeFully(dictionaryChannel, ByteBuffer.wrap(strings.toByteArray()));
+    dictionaryLength += strings.size();
+    writeFully(notesChannel, ByteBuffer.wrap(notes.toByteArray()));
+    for (var column : Column.values()) {
+      writeFully(columns.get(column), buffers.get(column).flip());
+    }
+  }
+
+  private int id(String value, ByteArrayOutputStream strings) {
+    var id = dictionaryIds.get(value);
+    if (id != null) {
+      return id;
+    }
+
+    var bytes = encode(value);
+    strings.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+    strings.writeBytes(bytes);
+    return addToDictionary(value);
+  }
+
+  private int addToDictionary(String value) {
+    var id = dictionary.size();
+    dictionary.add(value);
+    dictionaryIds.put(value, id);
+    return id;
+  }
+
+  private boolean isSorted(Rows rows) {
+    if (rows.size() < checkedRows) {
+      checkedRows = 0;
+      sorted = true;
+    }
+    for (var row = Math.max(checkedRows, 1); sorted && row < rows.size(); row++) {
+      sorted = rows.timestamp(row - 1) <= rows.timestamp(row);
+    }
+    checkedRows = rows.size();
+    return sorted;
+  }
+
+  private FileChannel open(Column column) throws IOException {
+    return FileChannel.open(directory.resolve(column.fileName), StandardOpenOption.READ);
+  }
+
+  private void openForWriting() throws IOException {
+    if (columns != null) {
+      return;
+    }
+
+    Files.createDirectories(directory);
+    dictionaryLength = -1;
+    loadDictionary();
+    dictionaryChannel = openForWriting(dictionaryFile);
+    dictionaryChannel.truncate(dictionaryLength);
+    notesChannel = openForWriting(notesFile);
+    columns = new EnumMap<>(Column.class);
+    for (var column : Column.values()) {
+      columns.put(column, openForWriting(directory.resolve(column.fileName)));
+    }
+    recover();
+  }
+
+  private void recover() throws IOException {
+    var rows = columns.get(Column.TIMESTAMPS).size() / Column.TIMESTAMPS.width;
+    for (var column : Column.values()) {
+      var channel = columns.get(column);
+      if (channel.size() < rows * column.width) {
+        throw new IOException("Column %s is shorter than %d rows.".formatted(column, rows));
+      }
+      channel.truncate(rows * column.width);
+    }
+
+    var notesLength = 0L;
+    if (rows > 0) {
+      var buffer = ByteBuffer.allocate(Long.BYTES);
+      columns.get(Column.NOTE_ENDS).read(buffer, (rows - 1) * Long.BYTES);
+      notesLength = buffer.flip().getLong() & ~NO_NOTES;
+    }
+    notesChannel.truncate(notesLength);
+  }
+
+  private void loadDictionary() throws IOException {
+    if (dictionaryLength == -1) {
+      dictionary.clear();
+      dictionaryIds.clear();
+      dictionaryLength = 0;
+    }
+
+    try (var channel = FileChannel.open(dictionaryFile, StandardOpenOption.READ)) {
+      var size = channel.size();
+      if (size == dictionaryLength) {
+        return;
+      }
+
+      var buffer =
+          channel.map(FileChannel.MapMode.READ_ONLY, dictionaryLength, size - dictionaryLength);
+      while (buffer.remaining() >= Integer.BYTES) {
+        var length = buffer.getInt(buffer.position());
+        if (buffer.remaining() < Integer.BYTES + length) {
+          // incomplete entry of an interrupted write
+          break;
+        }
+        buffer.position(buffer.position() + Integer.BYTES);
+        var bytes = new byte[length];
+        buffer.get(bytes);
+        addToDictionary(new String(bytes, StandardCharsets.UTF_8));
+        dictionaryLength += Integer.BYTES + length;
+      }
+    } catch (NoSuchFileException e) {
+      // no string written yet
+    }
+  }
+
+  private void closeChannels() throws IOException {
+    try {
+      if (columns != null) {
+        for (var channel : columns.values()) {
+          channel.close();
+        }
+      }
+      if (dictionaryChannel != null) {
+        dictionaryChannel.close();
+      }
+      if (notesChannel != null) {
+        notesChannel.close();
+      }
+    } finally {
+      columns = null;
+      dictionaryChannel = null;
+      notesChannel = null;
+    }
+  }
+
+  private static FileChannel openForWriting(Path file) throws IOException {
+    return FileChannel.open(
+        file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    channel.position(channel.size());
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static void deleteDirectory(Path directory) throws IOException {
+    if (!Files.exists(directory)) {
+      return;
+    }
+
+    try (var files = Files.walk(directory)) {
+      for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  private static int seconds(Duration duration) {
+    if (duration.getNano() != 0 || duration.getSeconds() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "The duration cannot be stored in whole seconds: %s.".formatted(duration));
+    }
+    return (int) duration.getSeconds();
+  }
+
+  private static byte[] encode(String value) {
+    return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String decode(ByteBuffer buffer, int start, int end) {
+    var bytes = new byte[end - start];
+    buffer.get(start, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private record FileState(long size, long modified) {}
+
+  private class Rows implements Closeable {
+    private final int size;
+    private final Map<Column, ByteBuffer> buffers = new EnumMap<>(Column.class);
+    private final NotesHeap notes;
+
+    Rows() throws IOException {
+      loadDictionary();
+      try (var channel = open(Column.TIMESTAMPS)) {
+        var rows = channel.size() / Column.TIMESTAMPS.width;
+        if (rows > MAX_ROWS) {
+          throw new IOException("Directory holds more than %d rows.".formatted(MAX_ROWS));
+        }
+        size = (int) rows;
+      }
+      for (var column : Column.values()) {
+        try (var channel = open(column)) {
+          buffers.put(
+              column, channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) size * column.width));
+        }
+      }
+      notes = new NotesHeap(FileChannel.open(notesFile, StandardOpenOption.READ));
+    }
+
+    int size() {
+      return size;
+    }
+
+    long timestamp(int row) {
+      return buffers.get(Column.TIMESTAMPS).getLong(row * Long.BYTES);
+    }
+
+    int lowerBound(long timestamp) {
+      var low = 0;
+      var high = size;
+      while (low < high) {
+        var middle = (low + high) >>> 1;
+        if (timestamp(middle) < timestamp) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low;
+    }
+
+    Activity activity(int row) throws IOException {
+      var noteEnds = buffers.get(Column.NOTE_ENDS);
+      var notesStart = row == 0 ? 0 : noteEnds.getLong((row - 1) * Long.BYTES) & ~NO_NOTES;
+      var notesEnd = noteEnds.getLong(row * Long.BYTES);
+      return Activity.builder()
+          .timestamp(LocalDateTime.ofEpochSecond(timestamp(row), 0, ZoneOffset.UTC))
+          .duration(Duration.ofSeconds(buffers.get(Column.DURATIONS).getInt(row * Integer.BYTES)))
+          .client(dictionary.get(buffers.get(Column.CLIENTS).getInt(row * Integer.BYTES)))
+          .project(dictionary.get(buffers.get(Column.PROJECTS).getInt(row * Integer.BYTES)))
+          .task(dictionary.get(buffers.get(Column.TASKS).getInt(row * Integer.BYTES)))
+          .notes(notesEnd < 0 ? null : notes.read(notesStart, notesEnd))
+          .build();
+    }
+
+    @Override
+    public void close() throws IOException {
+      notes.close();
+    }
+  }
+
+  private static class NotesHeap implements Closeable {
+    // Notes are read in row order, so the heap is mapped window by window and may exceed 2 GiB.
+    private final FileChannel channel;
+    private ByteBuffer window = ByteBuffer.allocate(0);
+    private long windowStart;
+
+    NotesHeap(FileChannel channel) {
+      this.channel = channel;
+    }
+
+    String read(long start, long end) throws IOException {
+      if (start < windowStart || end > windowStart + window.limit()) {
+        var length = Math.max(end - start, Math.min(channel.size() - start, WINDOW_SIZE));
+        if (length > Integer.MAX_VALUE) {
+          throw new IOException("Note at offset %d exceeds mapping window.".formatted(start));
+        }
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        windowStart = start;
+      }
+      return decode(window, (int) (start - windowStart), (int) (end - windowStart));
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.infrastructure;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+class ChunkedCsvReader {
+  private static final long MIN_CHUNK_SIZE = 1L << 20;
+  private static final long MAX_CHUNK_SIZE = 1L << 28;
+  private static final long WINDOW_SIZE = 1L << 30;
+
+  private final Path file;
+  private final int parallelism;
+  private ExecutorService executor;
+
+  ChunkedCsvReader(Path file, int parallelism) {
+    this.file = file;
+    this.parallelism = parallelism;
+  }
+
+  boolean isWorthSplitting(long start, long end) {
+    return parallelism > 1 && end - start >= 2 * MIN_CHUNK_SIZE;
+  }
+
+  List<Activity> read(
+      long start,
+      long end,
+      CSVFormat firstChunkFormat,
+      CSVFormat format,
+      Function<CSVRecord, Activity> mapper,
+      Predicate<Activity> filter)
+      throws IOException {
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      var boundaries = boundaries(channel, start, end, chunkCount(end - start));
+      var executor = executor();
+      var tasks = new ArrayList<Future<List<Activity>>>(boundaries.length - 1);
+      try {
+        for (var i = 0; i < boundaries.length - 1; i++) {
+          var chunkStart = boundaries[i];
+          var chunkEnd = boundaries[i + 1];
+          var chunkFormat = i == 0 ? firstChunkFormat : format;
+          tasks.add(
+              executor.submit(
+                  () -> readChunk(channel, chunkStart, chunkEnd, chunkFormat, mapper, filter)));
+        }
+
+        // Chunks are joined in file order, so the result matches a sequential read.
+        var chunks = new ArrayList<List<Activity>>(tasks.size());
+        var count = 0;
+        for (var task : tasks) {
+          var chunk = task.get();
+          chunks.add(chunk);
+          count += chunk.size();
+        }
+        var activities = new ArrayList<Activity>(count);
+        chunks.forEach(activities::addAll);
+        return Collections.unmodifiableList(activities);
+      } catch (ExecutionException e) {
+        throw new IOException("Failed to read chunk of file " + file, e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while reading file " + file);
+      } finally {
+        tasks.forEach(task -> task.cancel(false));
+      }
+    }
+  }
+
+  synchronized void close() {
+    if (executor != null) {
+      executor.shutdown();
+      executor = null;
+    }
+  }
+
+  private synchronized ExecutorService executor() {
+    // A dedicated pool bounds the reader threads and keeps blocking reads off the common pool.
+    if (executor == null) {
+      executor =
+          Executors.newFixedThreadPool(
+              parallelism,
+              runnable -> {
+                var thread = new Thread(runnable, "CSV Reader");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return executor;
+  }
+
+  private int chunkCount(long length) {
+    var count = Math.min(parallelism, length / MIN_CHUNK_SIZE);
+    count = Math.max(count, (length + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+    return (int) Math.max(count, 1);
+  }
+
+  private static long[] boundaries(FileChannel channel, long start, long end, int chunkCount)
+      throws IOException {
+    // A newline only ends a record outside of quotes. Escaped quotes toggle twice, so the quote
+    // parity tells whether a newline belongs to a notes field.
+    var boundaries = new long[chunkCount + 1];
+    boundaries[0] = start;
+    var count = 1;
+    var chunkSize = (end - start) / chunkCount;
+    var target = start + chunkSize;
+    var quoted = false;
+    var position = start;
+    while (position < end && count < chunkCount) {
+      var length = (int) Math.min(end - position, WINDOW_SIZE);
+      var buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+      for (var i = 0; i < length && count < chunkCount; i++) {
+        var b = buffer.get(i);
+        if (b == '"') {
+          quoted = !quoted;
+        } else if (b == '\n' && !quoted) {
+          var boundary = position + i + 1;
+          if (boundary >= target && boundary < end) {
+            boundaries[count++] = boundary;
+            target = boundary + chunkSize;
+          }
+        }
+      }
+      position += length;
+    }
+    boundaries[count++] = end;
+    return Arrays.copyOf(boundaries, count);
+  }
+
+  private static List<Activity> readChunk(
+      FileChannel channel,
+      long start,
+      long end,
+      CSVFormat format,
+      Function<CSVRecord, Activity> mapper,
+      Predicate<Activity> filter)
+      throws IOException {
+    var reader =
+        new InputStreamReader(new ChunkInputStream(channel, start, end), StandardCharsets.UTF_8);
+    try (var parser = new CSVParser(reader, format)) {
+      var activities = new ArrayList<Activity>();
+      for (var csvRecord : parser) {
+        var activity = mapper.apply(csvRecord);
+        if (filter.test(activity)) {
+          activities.add(activity);
+        }
+      }
+      return activities;
+    }
+  }
+
+  private static class ChunkInputStream extends InputStream {
+    // Reads at absolute positions, so the chunks can share one channel.
+    private final FileChannel channel;
+    private final long end;
+    private long position;
+
+    ChunkInputStream(FileChannel channel, long start, long end) {
+      this.channel = channel;
+      this.end = end;
+      position = start;
+    }
+
+    @Override
+    public int read() throws IOException {
+      var bytes = new byte[1];
+      return read(bytes, 0, 1) < 0 ? -1 : bytes[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      if (position >= end) {
+        return -1;
+      }
+      if (length == 0) {
+        return 0;
+      }
+
+      var buffer = ByteBuffer.wrap(bytes, offset, (int) Math.min(length, end - position));
+      var count = channel.read(buffer, position);
+      if (count < 0) {
+        throw new EOFException("Unexpected end of file at offset " + position);
+      }
+      position += count;
+      return count;
+    }
+  }
+}
@@ -7,22 +7,40 @@ package de.muspellheim.activitysampling.infrastructure;
 
 import de.muspellheim.activitysampling.domain.Activities;
 import de.muspellheim.activitysampling.domain.Activity;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.csv.CSVRecord;
 
-public class CsvActivities implements Activities {
+public class CsvActivities implements Activities, Closeable {
+  public enum Durability {
+    OS_BUFFER,
+    FSYNC,
+  }
+
   private enum Field {
     Timestamp,
     Duration,
@@ -32,58 +50,345 @@ public class CsvActivities implements Activities {
     Notes,
   }
 
+  private static final CSVFormat READ_FORMAT =
+      CSVFormat.Builder.create(CSVFormat.RFC4180)
+          .setHeader(Field.class)
+          .setSkipHeaderRecord(true)
+          .build();
+  private static final CSVFormat SEEK_FORMAT =
+      CSVFormat.Builder.create(CSVFormat.RFC4180).setHeader(Field.class).build();
+  private static final byte[] HEADER =
+      (CSVFormat.RFC4180.format((Object[]) Field.values())
+              + CSVFormat.RFC4180.getRecordSeparator())
+          .getBytes(StandardCharsets.UTF_8);
+
   private final Path file;
+  private final Duration groupCommitWindow;
+  private final Durability durability;
+  private final ActivityLogIndex index;
+  private final ChunkedCsvReader chunkedReader;
+  private final TailReader tailReader;
+  private final StringPool strings = new StringPool();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition committed = lock.newCondition();
+  private final List<PendingRecord> pending = new ArrayList<>();
+  private boolean committing;
+  private FileChannel channel;
+  private Object channelKey;
 
   public CsvActivities(Path file) {
+    this(file, Duration.ZERO, Durability.OS_BUFFER);
+  }
+
+  public CsvActivities(Path file, Duration groupCommitWindow, Durability durability) {
+    this(file, groupCommitWindow, durability, 1);
+  }
+
+  public CsvActivities(
+      Path file, Duration groupCommitWindow, Durability durability, int readParallelism) {
     this.file = file;
+    this.groupCommitWindow = groupCommitWindow;
+    this.durability = durability;
+    index = new ActivityLogIndex(file);
+    chunkedReader = new ChunkedCsvReader(file, readParallelism);
+    tailReader = new TailReader(file);
   }
 
   @Override
   public void append(Activity activity) throws Exception {
-    try (var printer = newPrinter()) {
-      printer.printRecord(
-          activity.timestamp().truncatedTo(ChronoUnit.SECONDS),
-          activity.duration(),
-          activity.client(),
-          activity.project(),
-          activity.task(),
-          activity.notes());
-    } catch (Exception e) {
-      throw new IOException("Failed to append activity to file " + file, e);
+    appendAll(List.of(activity));
+  }
+
+  public void appendAll(List<Activity> activities) throws Exception {
+    if (activities.isEmpty()) {
+      return;
+    }
+
+    var records = new ArrayList<PendingRecord>(activities.size());
+    for (var activity : activities) {
+      records.add(new PendingRecord(activity.timestamp().toLocalDate(), encode(activity)));
+    }
+    var last = records.get(records.size() - 1);
+    lock.lock();
+    try {
+      pending.addAll(records);
+      while (!last.done) {
+        if (committing) {
+          committed.awaitUninterruptibly();
+        } else {
+          commit();
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (last.failure != null) {
+      throw new IOException("Failed to append activities to file " + file, last.failure);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    lock.lock();
+    try {
+      while (committing) {
+        committed.awaitUninterruptibly();
+      }
+      chunkedReader.close();
+      if (channel != null) {
+        channel.close();
+        channel = null;
+      }
+    } catch (IOException e) {
+      throw new IOException("Failed to close file " + file, e);
+    } finally {
+      lock.unlock();
     }
   }
 
   @Override
   public List<Activity> findInPeriod(LocalDate from, LocalDate to) throws Exception {
-    try (var parser = newParser()) {
-      return parser.stream().map(this::parseActivity).filter(a -> isBetween(a, from, to)).toList();
+    try {
+      return readAll(from, to);
+    } catch (Exception e) {
+      throw new IOException("Failed to find activities in period from file " + file, e);
+    }
+  }
+
+  @Override
+  public List<Activity> findRecent(LocalDate from, LocalDate to) throws Exception {
+    try {
+      // A stale index would need a scan of the whole log, the tail only needs the recent records.
+      if (index.isCurrent()) {
+        return readAll(from, to);
+      }
+      var offset = tailReader.seek(from);
+      if (offset.isEmpty()) {
+        return readAll(from, to);
+      }
+
+      try (var activities = stream(newParser(offset.getAsLong()))) {
+        return activities.filter(a -> isBetween(a, from, to)).toList();
+      }
     } catch (NoSuchFileException e) {
       return List.of();
     } catch (Exception e) {
-      throw new IOException("Failed to find activities in period from file " + file, e);
+      throw new IOException("Failed to find recent activities from file " + file, e);
     }
   }
 
-  private CSVPrinter newPrinter() throws IOException {
-    var format = newFormat();
-    return new CSVPrinter(
-        Files.newBufferedWriter(
-            file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND),
-        format);
+  @Override
+  public Stream<Activity> streamInPeriod(LocalDate from, LocalDate to) throws Exception {
+    try {
+      return read(from, to);
+    } catch (Exception e) {
+      throw new IOException("Failed to stream activities in period from file " + file, e);
+    }
+  }
+
+  @Override
+  public Object changeToken() throws Exception {
+    try {
+      var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      return new FileState(attributes.size(), attributes.lastModifiedTime().toMillis());
+    } catch (NoSuchFileException e) {
+      return new FileState(-1, -1);
+    } catch (Exception e) {
+      throw new IOException("Failed to read attributes of file " + file, e);
+    }
+  }
+
+  private List<Activity> readAll(LocalDate from, LocalDate to) throws IOException {
+    long start;
+    long end;
+    try {
+      var offset = index.seek(from);
+      var size = Files.size(file);
+      start = offset.orElse(0);
+      end =
+          offset.isPresent() && to.isBefore(LocalDate.MAX)
+              ? index.seek(to.plusDays(1)).orElse(size)
+              : size;
+    } catch (NoSuchFileException e) {
+      return List.of();
+    }
+    if (!chunkedReader.isWorthSplitting(start, end)) {
+      try (var activities = read(from, to)) {
+        return activities.toList();
+      }
+    }
+
+    var firstChunkFormat = start == 0 ? READ_FORMAT : SEEK_FORMAT;
+    return chunkedReader.read(
+        start,
+        end,
+        firstChunkFormat,
+        SEEK_FORMAT,
+        this::parseActivity,
+        a -> isBetween(a, from, to));
+  }
+
+  private Stream<Activity> read(LocalDate from, LocalDate to) throws IOException {
+    OptionalLong offset;
+    try {
+      offset = index.seek(from);
+    } catch (NoSuchFileException e) {
+      return Stream.empty();
+    }
+    if (offset.isEmpty()) {
+      return stream(newParser()).filter(a -> isBetween(a, from, to));
+    }
+
+    return stream(newParser(offset.getAsLong()))
+        .takeWhile(a -> !a.timestamp().toLocalDate().isAfter(to))
+        .filter(a -> isBetween(a, from, to));
+  }
+
+  private Stream<Activity> stream(CSVParser parser) {
+    return parser.stream().map(this::parseActivity).onClose(() -> close(parser));
+  }
+
+  private static void close(CSVParser parser) {
+    try {
+      parser.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void commit() {
+    committing = true;
+    try {
+      awaitGroupCommitWindow();
+      var batch = List.copyOf(pending);
+      pending.clear();
+      lock.unlock();
+      IOException failure = null;
+      try {
+        write(batch);
+      } catch (IOException e) {
+        failure = e;
+      } finally {
+        lock.lock();
+      }
+      for (var record : batch) {
+        record.failure = failure;
+        record.done = true;
+      }
+    } finally {
+      committing = false;
+      committed.signalAll();
+    }
+  }
+
+  private void awaitGroupCommitWindow() {
+    var remaining = groupCommitWindow.toNanos();
+    try {
+      while (remaining > 0) {
+        remaining = committed.awaitNanos(remaining);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void write(List<PendingRecord> batch) throws IOException {
+    try {
+      if (channel == null || !isChannelCurrent()) {
+        closeQuietly();
+        channel =
+            FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        channelKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+      }
+      var offset = channel.size();
+      var out = new ByteArrayOutputStream();
+      if (offset == 0) {
+        out.writeBytes(HEADER);
+      }
+      var entries = new ArrayList<ActivityLogIndex.Entry>(batch.size());
+      for (var record : batch) {
+        entries.add(new ActivityLogIndex.Entry(record.date, offset + out.size()));
+        out.writeBytes(record.bytes);
+      }
+      var buffer = ByteBuffer.wrap(out.toByteArray());
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      if (durability == Durability.FSYNC) {
+        channel.force(false);
+      }
+      index.appended(entries);
+    } catch (IOException e) {
+      // Reopen the file with the next commit, it may have been replaced in the meantime.
+      closeQuietly();
+      throw e;
+    }
+  }
+
+  private boolean isChannelCurrent() throws IOException {
+    // An editor or sync tool may have replaced the file. Appending to the open channel would then
+    // write to the orphaned file. Without a file key, a differing size tells the files apart.
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    } catch (NoSuchFileException e) {
+      return false;
+    }
+    return Objects.equals(channelKey, attributes.fileKey()) && channel.size() == attributes.size();
+  }
+
+  private void closeQuietly() {
+    try {
+      if (channel != null) {
+        channel.close();
+      }
+    } catch (IOException ignored) {
+      // The write already failed and is reported.
+    } finally {
+      channel = null;
+    }
+  }
+
+  private static byte[] encode(Activity activity) {
+    var csvRecord =
+        CSVFormat.RFC4180.format(
+            activity.timestamp().truncatedTo(ChronoUnit.SECONDS),
+            activity.duration(),
+            activity.client(),
+            activity.project(),
+            activity.task(),
+            activity.notes());
+    return (csvRecord + CSVFormat.RFC4180.getRecordSeparator()).getBytes(StandardCharsets.UTF_8);
   }
 
   private CSVParser newParser() throws IOException {
-    var format = newFormat();
-    return new CSVParser(Files.newBufferedReader(file), format);
+    return new CSVParser(Files.newBufferedReader(file), READ_FORMAT);
+  }
+
+  private CSVParser newParser(long offset) throws IOException {
+    var channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      channel.position(offset);
+      var reader = Channels.newReader(channel, StandardCharsets.UTF_8);
+      return new CSVParser(new BufferedReader(reader), SEEK_FORMAT);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
   }
 
   private Activity parseActivity(CSVRecord csvRecord) {
     return Activity.builder()
-        .timestamp(LocalDateTime.parse(csvRecord.get(Field.Timestamp)))
-        .duration(Duration.parse(csvRecord.get(Field.Duration)))
-        .client(csvRecord.get(Field.Client))
-        .project(csvRecord.get(Field.Project))
-        .task(csvRecord.get(Field.Task))
+        .timestamp(TemporalParsers.parseTimestamp(csvRecord.get(Field.Timestamp)))
+        .duration(TemporalParsers.parseDuration(csvRecord.get(Field.Duration)))
+        .client(strings.intern(csvRecord.get(Field.Client)))
+        .project(strings.intern(csvRecord.get(Field.Project)))
+        .task(strings.intern(csvRecord.get(Field.Task)))
         .notes(csvRecord.get(Field.Notes))
         .build();
   }
@@ -93,11 +398,17 @@ public class CsvActivities implements Activities {
     return !date.isBefore(from) && !date.isAfter(to);
   }
 
-  private CSVFormat newFormat() {
-    var builder = CSVFormat.Builder.create(CSVFormat.RFC4180).setHeader(Field.class);
-    if (Files.exists(file)) {
-      builder.setSkipHeaderRecord(true);
+  private record FileState(long size, long modified) {}
+
+  private static class PendingRecord {
+    private final LocalDate date;
+    private final byte[] bytes;
+    private boolean done;
+    private IOException failure;
+
+    PendingRecord(LocalDate date, byte[] bytes) {
+      this.date = date;
+      this.bytes = bytes;
     }
-    return builder.build();
   }
 }
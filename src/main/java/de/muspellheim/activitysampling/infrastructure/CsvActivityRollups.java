@@ -0,0 +1,312 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.infrastructure;
+
+import de.muspellheim.activitysampling.domain.Activities;
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.ActivityRollups;
+import de.muspellheim.activitysampling.domain.ActivityTotal;
+import de.muspellheim.activitysampling.domain.Timesheet;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+
+public class CsvActivityRollups implements ActivityRollups {
+  private static final int MAGIC = 0x41535231;
+  private static final int MAX_APPENDED_BYTES = 1 << 20;
+  private static final int FIELD_COUNT = 6;
+
+  private final Path logFile;
+  private final Path file;
+  private final Activities activities;
+
+  private long logSize = -1;
+  private long logModified = -1;
+  private int records;
+  private final NavigableMap<LocalDate, Map<Bucket, long[]>> days = new TreeMap<>();
+
+  public CsvActivityRollups(Path logFile, Activities activities) {
+    this.logFile = logFile;
+    this.file = logFile.resolveSibling(logFile.getFileName() + ".rollups");
+    this.activities = activities;
+  }
+
+  @Override
+  public synchronized void add(Activity activity) {
+    // Applies every record appended to the log since the roll-ups were written, so a group commit
+    // of several records is applied by its first add and the following adds find nothing new.
+    try {
+      if (logSize == -1) {
+        load();
+      }
+      var attributes = Files.readAttributes(logFile, BasicFileAttributes.class);
+      if (isCurrent(attributes)) {
+        return;
+      }
+
+      var size = attributes.size();
+      if (logSize == -1 || size <= logSize || size - logSize > MAX_APPENDED_BYTES) {
+        invalidate();
+        return;
+      }
+
+      var appended = readAppended(size);
+      if (appended.length == 0) {
+        // no complete record yet
+        return;
+      }
+
+      var deltas = parse(appended);
+      if (deltas == null) {
+        invalidate();
+        return;
+      }
+
+      try (var out = new RandomAccessFile(file.toFile(), "rw")) {
+        out.seek(out.length());
+        for (var delta : deltas) {
+          writeRecord(out, delta.date(), delta.bucket(), delta.nanos());
+        }
+        out.seek(Integer.BYTES);
+        out.writeLong(logSize + appended.length);
+        out.writeLong(attributes.lastModifiedTime().toMillis());
+      }
+      for (var delta : deltas) {
+        accumulate(delta.date(), delta.bucket(), delta.nanos());
+        records++;
+      }
+      logSize += appended.length;
+      logModified = attributes.lastModifiedTime().toMillis();
+    } catch (IOException e) {
+      // Roll-ups not matching the log are rebuilt with the next query.
+      reset();
+    }
+  }
+
+  @Override
+  public synchronized List<Timesheet.Entry> findInPeriod(LocalDate from, LocalDate to)
+      throws Exception {
+    try {
+      var attributes = Files.readAttributes(logFile, BasicFileAttributes.class);
+      if (!isCurrent(attributes)) {
+        load();
+        if (!isCurrent(attributes)) {
+          rebuild(attributes);
+        }
+      }
+
+      var entries = new ArrayList<Timesheet.Entry>();
+      for (var day : days.subMap(from, true, to, true).entrySet()) {
+        for (var bucket : day.getValue().entrySet()) {
+          var key = bucket.getKey();
+          entries.add(
+              Timesheet.Entry.builder()
+                  .date(day.getKey())
+                  .client(key.client())
+                  .project(key.project())
+                  .task(key.task())
+                  .hours(Duration.ofNanos(bucket.getValue()[0]))
+                  .build());
+        }
+      }
+      Collections.sort(entries);
+      return List.copyOf(entries);
+    } catch (NoSuchFileException e) {
+      return List.of();
+    } catch (Exception e) {
+      throw new IOException("Failed to find roll-ups in period from file " + file, e);
+    }
+  }
+
+  private boolean isCurrent(BasicFileAttributes attributes) {
+    return logSize == attributes.size() && logModified == attributes.lastModifiedTime().toMillis();
+  }
+
+  private byte[] readAppended(long size) throws IOException {
+    // Returns the complete records between the covered log size and the given size.
+    var buffer = ByteBuffer.allocate((int) (size - logSize));
+    try (var channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, logSize + buffer.position()) < 0) {
+          break;
+        }
+      }
+    }
+    var length = 0;
+    var quoted = false;
+    for (var i = 0; i < buffer.position(); i++) {
+      var b = buffer.get(i);
+      if (b == '"') {
+        quoted = !quoted;
+      } else if (b == '\n' && !quoted) {
+        length = i + 1;
+      }
+    }
+    return Arrays.copyOf(buffer.array(), length);
+  }
+
+  private List<Delta> parse(byte[] appended) throws IOException {
+    // Returns null if the appended records cannot be applied incrementally.
+    var reader = new InputStreamReader(new ByteArrayInputStream(appended), StandardCharsets.UTF_8);
+    try (var parser = new CSVParser(reader, CSVFormat.RFC4180)) {
+      var deltas = new ArrayList<Delta>();
+      var lastDate = days.isEmpty() ? LocalDate.MIN : days.lastKey();
+      var header = logSize == 0;
+      for (var csvRecord : parser) {
+        if (header) {
+          header = false;
+          continue;
+        }
+        if (csvRecord.size() != FIELD_COUNT) {
+          return null;
+        }
+
+        var date = TemporalParsers.parseTimestamp(csvRecord.get(0)).toLocalDate();
+        if (date.isBefore(lastDate)) {
+          return null;
+        }
+
+        var bucket = new Bucket(csvRecord.get(2), csvRecord.get(3), csvRecord.get(4));
+        var nanos = TemporalParsers.parseDuration(csvRecord.get(1)).toNanos();
+        deltas.add(new Delta(date, bucket, nanos));
+        lastDate = date;
+      }
+      return deltas;
+    } catch (DateTimeException | IllegalStateException | UncheckedIOException e) {
+      return null;
+    }
+  }
+
+  private void load() throws IOException {
+    reset();
+    if (Files.notExists(file)) {
+      return;
+    }
+
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC) {
+        return;
+      }
+
+      var size = in.readLong();
+      var modified = in.readLong();
+      while (readRecord(in)) {
+        records++;
+      }
+      logSize = size;
+      logModified = modified;
+    } catch (EOFException e) {
+      reset();
+      return;
+    }
+
+    var buckets = days.values().stream().mapToInt(Map::size).sum();
+    if (records > 2 * buckets) {
+      store();
+    }
+  }
+
+  private boolean readRecord(DataInput in) throws IOException {
+    long epochDay;
+    try {
+      epochDay = in.readLong();
+    } catch (EOFException e) {
+      return false;
+    }
+
+    var bucket = new Bucket(in.readUTF(), in.readUTF(), in.readUTF());
+    accumulate(LocalDate.ofEpochDay(epochDay), bucket, in.readLong());
+    return true;
+  }
+
+  private void rebuild(BasicFileAttributes attributes) throws Exception {
+    reset();
+    var totals =
+        activities.sumDurations(LocalDate.MIN, LocalDate.MAX, ActivityTotal.ALL_DIMENSIONS);
+    for (var total : totals) {
+      var bucket = new Bucket(total.client(), total.project(), total.task());
+      accumulate(total.date(), bucket, total.duration().toNanos());
+    }
+    logSize = attributes.size();
+    logModified = attributes.lastModifiedTime().toMillis();
+    store();
+  }
+
+  private void accumulate(LocalDate date, Bucket bucket, long nanos) {
+    var buckets = days.computeIfAbsent(date, d -> new HashMap<>());
+    buckets.computeIfAbsent(bucket, b -> new long[1])[0] += nanos;
+  }
+
+  private void store() throws IOException {
+    records = 0;
+    try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      out.writeInt(MAGIC);
+      out.writeLong(logSize);
+      out.writeLong(logModified);
+      for (var day : days.entrySet()) {
+        for (var bucket : day.getValue().entrySet()) {
+          writeRecord(out, day.getKey(), bucket.getKey(), bucket.getValue()[0]);
+          records++;
+        }
+      }
+    }
+  }
+
+  private static void writeRecord(DataOutput out, LocalDate date, Bucket bucket, long nanos)
+      throws IOException {
+    out.writeLong(date.toEpochDay());
+    out.writeUTF(bucket.client());
+    out.writeUTF(bucket.project());
+    out.writeUTF(bucket.task());
+    out.writeLong(nanos);
+  }
+
+  private void invalidate() throws IOException {
+    reset();
+    Files.deleteIfExists(file);
+  }
+
+  private void reset() {
+    logSize = -1;
+    logModified = -1;
+    records = 0;
+    days.clear();
+  }
+
+  private record Bucket(String client, String project, String task) {}
+
+  private record Delta(LocalDate date, Bucket bucket, long nanos) {}
+}
@@ -0,0 +1,243 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.infrastructure;
+
+import de.muspellheim.activitysampling.domain.Activities;
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.ActivityTotal;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class H2Activities implements Activities, Closeable {
+  private static final String CREATE_TABLE =
+      """
+      CREATE TABLE IF NOT EXISTS activity (
+        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+        logged_at TIMESTAMP(0) NOT NULL,
+        duration_nanos BIGINT NOT NULL,
+        client VARCHAR NOT NULL,
+        project VARCHAR NOT NULL,
+        task VARCHAR NOT NULL,
+        notes VARCHAR
+      )""";
+  private static final String CREATE_INDEX =
+      "CREATE INDEX IF NOT EXISTS activity_logged_at ON activity (logged_at)";
+  private static final String INSERT =
+      """
+      INSERT INTO activity (logged_at, duration_nanos, client, project, task, notes)
+      VALUES (?, ?, ?, ?, ?, ?)""";
+  private static final String SELECT_IN_PERIOD =
+      """
+      SELECT logged_at, duration_nanos, client, project, task, notes
+      FROM activity
+      WHERE logged_at >= ? AND logged_at < ?
+      ORDER BY id""";
+  private static final String COUNT = "SELECT COUNT(*) FROM activity";
+  private static final String CHANGE_TOKEN = "SELECT COUNT(*), COALESCE(MAX(id), 0) FROM activity";
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
+
+  private final Path file;
+  private final String url;
+  private final StringPool strings = new StringPool();
+
+  private Connection connection;
+
+  public H2Activities(Path file) {
+    this.file = file;
+    url = "jdbc:h2:" + file.toAbsolutePath();
+  }
+
+  @Override
+  public synchronized void append(Activity activity) throws Exception {
+    try (var statement = connection().prepareStatement(INSERT)) {
+      bind(statement, activity);
+      statement.executeUpdate();
+    } catch (Exception e) {
+      throw new IOException("Failed to append activity to database " + file, e);
+    }
+  }
+
+  @Override
+  public synchronized List<Activity> findInPeriod(LocalDate from, LocalDate to) throws Exception {
+    try (var statement = connection().prepareStatement(SELECT_IN_PERIOD)) {
+      bindPeriod(statement, from, to);
+      try (var resultSet = statement.executeQuery()) {
+        var activities = new ArrayList<Activity>();
+        while (resultSet.next()) {
+          activities.add(
+              Activity.builder()
+                  .timestamp(resultSet.getObject(1, LocalDateTime.class))
+                  .duration(Duration.ofNanos(resultSet.getLong(2)))
+                  .client(strings.intern(resultSet.getString(3)))
+                  .project(strings.intern(resultSet.getString(4)))
+                  .task(strings.intern(resultSet.getString(5)))
+                  .notes(resultSet.getString(6))
+                  .build());
+        }
+        return activities;
+      }
+    } catch (Exception e) {
+      throw new IOException("Failed to find activities in period from database " + file, e);
+    }
+  }
+
+  @Override
+  public synchronized Object changeToken() throws Exception {
+    try (var statement = connection().createStatement();
+        var resultSet = statement.executeQuery(CHANGE_TOKEN)) {
+      resultSet.next();
+      return new TableState(resultSet.getLong(1), resultSet.getLong(2));
+    } catch (Exception e) {
+      throw new IOException("Failed to read state of database " + file, e);
+    }
+  }
+
+  @Override
+  public synchronized List<ActivityTotal> sumDurations(
+      LocalDate from, LocalDate to, Set<ActivityTotal.Dimension> dimensions) throws Exception {
+    var columns = new ArrayList<String>();
+    for (var dimension : ActivityTotal.Dimension.values()) {
+      if (dimensions.contains(dimension)) {
+        columns.add(column(dimension));
+      }
+    }
+    var groupBy = columns.isEmpty() ? "" : " GROUP BY " + String.join(", ", columns);
+    columns.add("SUM(duration_nanos)");
+    var sql =
+        "SELECT "
+            + String.join(", ", columns)
+            + " FROM activity WHERE logged_at >= ? AND logged_at < ?"
+            + groupBy;
+    try (var statement = connection().prepareStatement(sql)) {
+      bindPeriod(statement, from, to);
+      try (var resultSet = statement.executeQuery()) {
+        var totals = new ArrayList<ActivityTotal>();
+        while (resultSet.next()) {
+          var total = ActivityTotal.builder();
+          var index = 1;
+          if (dimensions.contains(ActivityTotal.Dimension.DATE)) {
+            total.date(resultSet.getObject(index++, LocalDate.class));
+          }
+          if (dimensions.contains(ActivityTotal.Dimension.CLIENT)) {
+            total.client(resultSet.getString(index++));
+          }
+          if (dimensions.contains(ActivityTotal.Dimension.PROJECT)) {
+            total.project(resultSet.getString(index++));
+          }
+          if (dimensions.contains(ActivityTotal.Dimension.TASK)) {
+            total.task(resultSet.getString(index++));
+          }
+          var nanos = resultSet.getObject(index, Long.class);
+          if (nanos != null) {
+            totals.add(total.duration(Duration.ofNanos(nanos)).build());
+          }
+        }
+        return ActivityTotal.sort(totals);
+      }
+    } catch (Exception e) {
+      throw new IOException("Failed to sum durations in period from database " + file, e);
+    }
+  }
+
+  public synchronized int migrate(Activities source) throws Exception {
+    try {
+      try (var statement = connection().createStatement();
+          var resultSet = statement.executeQuery(COUNT)) {
+        resultSet.next();
+        if (resultSet.getLong(1) > 0) {
+          return 0;
+        }
+      }
+
+      var count = 0;
+      connection.setAutoCommit(false);
+      try (var statement = connection.prepareStatement(INSERT);
+          var activities = source.streamInPeriod(LocalDate.MIN, LocalDate.MAX)) {
+        for (var activity : (Iterable<Activity>) activities::iterator) {
+          bind(statement, activity);
+          statement.addBatch();
+          count++;
+          if (count % MIGRATION_BATCH_SIZE == 0) {
+            statement.executeBatch();
+          }
+        }
+        statement.executeBatch();
+        connection.commit();
+      } catch (Exception e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+      return count;
+    } catch (Exception e) {
+      throw new IOException("Failed to migrate activities to database " + file, e);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    try {
+      if (connection != null) {
+        connection.close();
+        connection = null;
+      }
+    } catch (SQLException e) {
+      throw new IOException("Failed to close database " + file, e);
+    }
+  }
+
+  private Connection connection() throws SQLException {
+    if (connection == null) {
+      connection = DriverManager.getConnection(url);
+      try (var statement = connection.createStatement()) {
+        statement.execute(CREATE_TABLE);
+        statement.execute(CREATE_INDEX);
+      }
+    }
+    return connection;
+  }
+
+  private static void bind(PreparedStatement statement, Activity activity) throws SQLException {
+    statement.setObject(1, activity.timestamp().truncatedTo(ChronoUnit.SECONDS));
+    statement.setLong(2, activity.duration().toNanos());
+    statement.setString(3, activity.client());
+    statement.setString(4, activity.project());
+    statement.setString(5, activity.task());
+    statement.setString(6, activity.notes());
+  }
+
+  private static String column(ActivityTotal.Dimension dimension) {
+    return switch (dimension) {
+      case DATE -> "CAST(logged_at AS DATE)";
+      case CLIENT -> "client";
+      case PROJECT -> "project";
+      case TASK -> "task";
+    };
+  }
+
+  private static void bindPeriod(PreparedStatement statement, LocalDate from, LocalDate to)
+      throws SQLException {
+    // Half-open range, the end of a day cannot be rounded into the next day.
+    var end = to.isBefore(LocalDate.MAX) ? to.plusDays(1) : LocalDate.MAX;
+    statement.setObject(1, from.atStartOfDay());
+    statement.setObject(2, end.atStartOfDay());
+  }
+
+  private record TableState(long count, long lastId) {}
+}
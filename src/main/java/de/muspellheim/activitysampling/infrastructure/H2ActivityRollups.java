@@ -0,0 +1,32 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.infrastructure;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.ActivityRollups;
+import de.muspellheim.activitysampling.domain.ActivityTotal;
+import de.muspellheim.activitysampling.domain.Timesheet;
+import java.time.LocalDate;
+import java.util.List;
+
+public class H2ActivityRollups implements ActivityRollups {
+  private final H2Activities activities;
+
+  public H2ActivityRollups(H2Activities activities) {
+    this.activities = activities;
+  }
+
+  @Override
+  public void add(Activity activity) {
+    // aggregated by the database on query
+  }
+
+  @Override
+  public List<Timesheet.Entry> findInPeriod(LocalDate from, LocalDate to) throws Exception {
+    var totals = activities.sumDurations(from, to, ActivityTotal.ALL_DIMENSIONS);
+    return Timesheet.fromTotals(totals).entries();
+  }
+}
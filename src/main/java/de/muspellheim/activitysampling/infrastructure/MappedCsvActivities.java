@@ -0,0 +1,294 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.infrastructure;
+
+import de.muspellheim.activitysampling.domain.Activities;
+import de.muspellheim.activitysampling.domain.Activity;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MappedCsvActivities implements Activities, Closeable {
+  private static final long WINDOW_SIZE = 1L << 30;
+  private static final int FIELD_COUNT = 6;
+  private static final int DATE_LENGTH = 10;
+  private static final int TEMPORAL_FIELD_COUNT = 2;
+
+  private final Path file;
+  private final CsvActivities writer;
+  private final ActivityLogIndex index;
+  private final StringPool strings = new StringPool();
+
+  public MappedCsvActivities(Path file) {
+    this.file = file;
+    writer = new CsvActivities(file);
+    index = new ActivityLogIndex(file);
+  }
+
+  @Override
+  public void append(Activity activity) throws Exception {
+    writer.append(activity);
+  }
+
+  @Override
+  public List<Activity> findInPeriod(LocalDate from, LocalDate to) throws Exception {
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      var offset = index.seek(from);
+      var scanner = new RecordScanner(dateKey(from), dateKey(to), offset.isPresent(), strings);
+      var size = channel.size();
+      var position = offset.orElse(0);
+      while (position < size && !scanner.done) {
+        var length = Math.min(size - position, WINDOW_SIZE);
+        var buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        var consumed = scanner.scan(buffer, position + length == size);
+        if (consumed == 0) {
+          throw new IOException("Record at offset %d exceeds mapping window.".formatted(position));
+        }
+        position += consumed;
+      }
+      return scanner.activities;
+    } catch (NoSuchFileException e) {
+      return List.of();
+    } catch (Exception e) {
+      throw new IOException("Failed to find activities in period from file " + file, e);
+    }
+  }
+
+  @Override
+  public List<Activity> findRecent(LocalDate from, LocalDate to) throws Exception {
+    return writer.findRecent(from, to);
+  }
+
+  @Override
+  public Object changeToken() throws Exception {
+    return writer.changeToken();
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+
+  private static long dateKey(LocalDate date) {
+    return date.getYear() * 10_000L + date.getMonthValue() * 100L + date.getDayOfMonth();
+  }
+
+  private static class RecordScanner {
+    private final long fromKey;
+    private final long toKey;
+    private final boolean chronological;
+    private final StringPool strings;
+    private final List<Activity> activities = new ArrayList<>();
+    private final String[] fields = new String[FIELD_COUNT];
+    private final ByteWindow[] windows = {new ByteWindow(), new ByteWindow()};
+    private final ByteArrayOutputStream unquoted = new ByteArrayOutputStream();
+    private boolean headerSkipped;
+    private boolean done;
+
+    RecordScanner(long fromKey, long toKey, boolean chronological, StringPool strings) {
+      this.fromKey = fromKey;
+      this.toKey = toKey;
+      this.chronological = chronological;
+      this.strings = strings;
+      headerSkipped = chronological;
+    }
+
+    int scan(ByteBuffer buffer, boolean last) {
+      var limit = buffer.limit();
+      var start = 0;
+      var quoted = false;
+      for (var i = 0; i < limit; i++) {
+        var b = buffer.get(i);
+        if (b == '"') {
+          quoted = !quoted;
+        } else if (b == '\n' && !quoted) {
+          record(buffer, start, i + 1);
+          start = i + 1;
+          if (done) {
+            return start;
+          }
+        }
+      }
+      if (last && start < limit) {
+        record(buffer, start, limit);
+        start = limit;
+      }
+      return start;
+    }
+
+    private void record(ByteBuffer buffer, int start, int end) {
+      if (!headerSkipped) {
+        headerSkipped = true;
+        return;
+      }
+      if (isBlank(buffer, start, end)) {
+        return;
+      }
+
+      var key = dateKey(buffer, start, end);
+      if (key > toKey && chronological) {
+        done = true;
+        return;
+      }
+      if (key < fromKey || key > toKey) {
+        return;
+      }
+
+      decodeFields(buffer, start, end);
+      activities.add(
+          Activity.builder()
+              .timestamp(TemporalParsers.parseTimestamp(field(0)))
+              .duration(TemporalParsers.parseDuration(field(1)))
+              .client(strings.intern(fields[2]))
+              .project(strings.intern(fields[3]))
+              .task(strings.intern(fields[4]))
+              .notes(fields[5])
+              .build());
+    }
+
+    private CharSequence field(int index) {
+      return fields[index] != null ? fields[index] : windows[index];
+    }
+
+    private static boolean isBlank(ByteBuffer buffer, int start, int end) {
+      for (var i = start; i < end; i++) {
+        var b = buffer.get(i);
+        if (b != '\r' && b != '\n') {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static long dateKey(ByteBuffer buffer, int start, int end) {
+      if (end - start < DATE_LENGTH
+          || buffer.get(start + 4) != '-'
+          || buffer.get(start + 7) != '-') {
+        throw new IllegalArgumentException(
+            "Invalid timestamp: %s.".formatted(decode(buffer, start, Math.min(end, start + 20))));
+      }
+
+      var year = digits(buffer, start, 4);
+      var month = digits(buffer, start + 5, 2);
+      var day = digits(buffer, start + 8, 2);
+      return year * 10_000L + month * 100L + day;
+    }
+
+    private static int digits(ByteBuffer buffer, int start, int count) {
+      var value = 0;
+      for (var i = start; i < start + count; i++) {
+        var digit = buffer.get(i) - '0';
+        if (digit < 0 || digit > 9) {
+          throw new IllegalArgumentException("Invalid timestamp at offset %d.".formatted(i));
+        }
+        value = value * 10 + digit;
+      }
+      return value;
+    }
+
+    private void decodeFields(ByteBuffer buffer, int start, int recordEnd) {
+      var end = recordEnd;
+      while (end > start && (buffer.get(end - 1) == '\n' || buffer.get(end - 1) == '\r')) {
+        end--;
+      }
+
+      var field = 0;
+      var position = start;
+      while (field < FIELD_COUNT && position <= end) {
+        if (position < end && buffer.get(position) == '"') {
+          position = decodeQuoted(buffer, position + 1, end, field);
+        } else {
+          var fieldEnd = position;
+          while (fieldEnd < end && buffer.get(fieldEnd) != ',') {
+            fieldEnd++;
+          }
+          if (field < TEMPORAL_FIELD_COUNT) {
+            // Timestamp and duration are parsed straight from the mapped bytes.
+            windows[field].set(buffer, position, fieldEnd);
+            fields[field] = null;
+          } else {
+            fields[field] = decode(buffer, position, fieldEnd);
+          }
+          position = fieldEnd;
+        }
+        field++;
+        position++;
+      }
+      if (field < FIELD_COUNT) {
+        throw new IllegalArgumentException(
+            "Expected %d fields but found %d: %s."
+                .formatted(FIELD_COUNT, field, decode(buffer, start, end)));
+      }
+    }
+
+    private int decodeQuoted(ByteBuffer buffer, int position, int end, int field) {
+      unquoted.reset();
+      while (position < end) {
+        var b = buffer.get(position);
+        if (b == '"') {
+          if (position + 1 < end && buffer.get(position + 1) == '"') {
+            unquoted.write('"');
+            position += 2;
+            continue;
+          }
+          position++;
+          break;
+        }
+        unquoted.write(b);
+        position++;
+      }
+      fields[field] = unquoted.toString(StandardCharsets.UTF_8);
+      return position;
+    }
+
+    private static String decode(ByteBuffer buffer, int start, int end) {
+      var bytes = new byte[end - start];
+      buffer.get(start, bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+  }
+
+  private static class ByteWindow implements CharSequence {
+    private ByteBuffer buffer;
+    private int start;
+    private int end;
+
+    void set(ByteBuffer buffer, int start, int end) {
+      this.buffer = buffer;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public int length() {
+      return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+      return (char) (buffer.get(start + index) & 0xff);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+      return toString().subSequence(from, to);
+    }
+
+    @Override
+    public String toString() {
+      return RecordScanner.decode(buffer, start, end);
+    }
+  }
+}
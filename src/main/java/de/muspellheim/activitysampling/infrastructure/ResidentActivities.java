@@ -0,0 +1,250 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.infrastructure;
+
+import de.muspellheim.activitysampling.domain.Activities;
+import de.muspellheim.activitysampling.domain.Activity;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class ResidentActivities implements Activities {
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final int INITIAL_NOTES_CAPACITY = 64 * 1024;
+  private static final int NO_VALUE = -1;
+
+  private final Activities activities;
+
+  // Sorted by timestamp, one row per activity. Timestamps are stored in seconds like all stores
+  // write them, client, project and task as ids into a shared dictionary. Notes are free text and
+  // mostly unique, so they are kept as UTF-8 in a byte heap addressed by offset and length.
+  private long[] timestamps;
+  private long[] durations;
+  private int[] clients;
+  private int[] projects;
+  private int[] tasks;
+  private int[] noteOffsets;
+  private int[] noteLengths;
+  private int size;
+  private final Map<String, Integer> ids = new HashMap<>();
+  private final List<String> values = new ArrayList<>();
+  private byte[] notes;
+  private int notesSize;
+
+  private boolean loaded;
+  private Object loadedToken;
+
+  public ResidentActivities(Activities activities) {
+    this.activities = activities;
+  }
+
+  @Override
+  public synchronized void append(Activity activity) throws Exception {
+    var current = loaded && isCurrent();
+    activities.append(activity);
+    if (current) {
+      insert(activity);
+      loadedToken = activities.changeToken();
+    } else {
+      loaded = false;
+    }
+  }
+
+  @Override
+  public synchronized List<Activity> findInPeriod(LocalDate from, LocalDate to) throws Exception {
+    try {
+      load();
+      var start = lowerBound(toSeconds(from.atStartOfDay()));
+      var end =
+          to.isBefore(LocalDate.MAX) ? lowerBound(toSeconds(to.plusDays(1).atStartOfDay())) : size;
+      var result = new ArrayList<Activity>(Math.max(0, end - start));
+      for (var i = start; i < end; i++) {
+        result.add(activity(i));
+      }
+      return result;
+    } catch (Exception e) {
+      throw new IOException("Failed to find activities in period.", e);
+    }
+  }
+
+  @Override
+  public Object changeToken() throws Exception {
+    return activities.changeToken();
+  }
+
+  private boolean isCurrent() throws Exception {
+    return Objects.equals(loadedToken, activities.changeToken());
+  }
+
+  private void load() throws Exception {
+    if (loaded && isCurrent()) {
+      return;
+    }
+
+    var token = activities.changeToken();
+    clear();
+    try (var stream = activities.streamInPeriod(LocalDate.MIN, LocalDate.MAX)) {
+      stream.forEach(this::insert);
+    }
+    loaded = true;
+    loadedToken = token;
+  }
+
+  private void clear() {
+    timestamps = new long[INITIAL_CAPACITY];
+    durations = new long[INITIAL_CAPACITY];
+    clients = new int[INITIAL_CAPACITY];
+    projects = new int[INITIAL_CAPACITY];
+    tasks = new int[INITIAL_CAPACITY];
+    noteOffsets = new int[INITIAL_CAPACITY];
+    noteLengths = new int[INITIAL_CAPACITY];
+    size = 0;
+    ids.clear();
+    values.clear();
+    notes = new byte[INITIAL_NOTES_CAPACITY];
+    notesSize = 0;
+  }
+
+  private void insert(Activity activity) {
+    if (size == timestamps.length) {
+      grow();
+    }
+
+    // Activities are logged in order, so this is an append except for entries edited afterwards.
+    var timestamp = toSeconds(activity.timestamp());
+    var index = size > 0 && timestamps[size - 1] > timestamp ? upperBound(timestamp) : size;
+    if (index < size) {
+      shift(index);
+    }
+    timestamps[index] = timestamp;
+    durations[index] = activity.duration().toNanos();
+    clients[index] = id(activity.client());
+    projects[index] = id(activity.project());
+    tasks[index] = id(activity.task());
+    putNotes(index, activity.notes());
+    size++;
+  }
+
+  private void grow() {
+    var capacity = timestamps.length * 2;
+    timestamps = Arrays.copyOf(timestamps, capacity);
+    durations = Arrays.copyOf(durations, capacity);
+    clients = Arrays.copyOf(clients, capacity);
+    projects = Arrays.copyOf(projects, capacity);
+    tasks = Arrays.copyOf(tasks, capacity);
+    noteOffsets = Arrays.copyOf(noteOffsets, capacity);
+    noteLengths = Arrays.copyOf(noteLengths, capacity);
+  }
+
+  private void shift(int index) {
+    var length = size - index;
+    System.arraycopy(timestamps, index, timestamps, index + 1, length);
+    System.arraycopy(durations, index, durations, index + 1, length);
+    System.arraycopy(clients, index, clients, index + 1, length);
+    System.arraycopy(projects, index, projects, index + 1, length);
+    System.arraycopy(tasks, index, tasks, index + 1, length);
+    System.arraycopy(noteOffsets, index, noteOffsets, index + 1, length);
+    System.arraycopy(noteLengths, index, noteLengths, index + 1, length);
+  }
+
+  private int lowerBound(long timestamp) {
+    var low = 0;
+    var high = size;
+    while (low < high) {
+      var middle = (low + high) >>> 1;
+      if (timestamps[middle] < timestamp) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private int upperBound(long timestamp) {
+    var low = 0;
+    var high = size;
+    while (low < high) {
+      var middle = (low + high) >>> 1;
+      if (timestamps[middle] <= timestamp) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private int id(String value) {
+    if (value == null) {
+      return NO_VALUE;
+    }
+
+    var id = ids.get(value);
+    if (id == null) {
+      id = values.size();
+      ids.put(value, id);
+      values.add(value);
+    }
+    return id;
+  }
+
+  private String value(int id) {
+    return id == NO_VALUE ? null : values.get(id);
+  }
+
+  private void putNotes(int index, String value) {
+    if (value == null) {
+      noteOffsets[index] = 0;
+      noteLengths[index] = NO_VALUE;
+      return;
+    }
+
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    if (notesSize + bytes.length > notes.length) {
+      var capacity = Math.max((long) notes.length * 2, (long) notesSize + bytes.length);
+      if (capacity > Integer.MAX_VALUE - 8) {
+        throw new IllegalStateException("Notes exceed the resident heap of 2 GiB.");
+      }
+      notes = Arrays.copyOf(notes, (int) capacity);
+    }
+    System.arraycopy(bytes, 0, notes, notesSize, bytes.length);
+    noteOffsets[index] = notesSize;
+    noteLengths[index] = bytes.length;
+    notesSize += bytes.length;
+  }
+
+  private String notes(int index) {
+    var length = noteLengths[index];
+    return length == NO_VALUE
+        ? null
+        : new String(notes, noteOffsets[index], length, StandardCharsets.UTF_8);
+  }
+
+  private Activity activity(int index) {
+    return Activity.builder()
+        .timestamp(LocalDateTime.ofEpochSecond(timestamps[index], 0, ZoneOffset.UTC))
+        .duration(Duration.ofNanos(durations[index]))
+        .client(value(clients[index]))
+        .project(value(projects[index]))
+        .task(value(tasks[index]))
+        .notes(notes(index))
+        .build();
+  }
+
+  private static long toSeconds(LocalDateTime timestamp) {
+    return timestamp.toEpochSecond(ZoneOffset.UTC);
+  }
+}
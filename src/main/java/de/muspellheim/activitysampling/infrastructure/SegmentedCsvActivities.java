@@ -0,0 +1,259 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.infrastructure;
+
+import de.muspellheim.activitysampling.domain.Activities;
+import de.muspellheim.activitysampling.domain.Activity;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+public class SegmentedCsvActivities implements Activities, Closeable {
+  private static final String MANIFEST_FILE = "segments.manifest";
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
+  private static final String MIGRATION_SUFFIX = ".migrating";
+  private static final String REPLACED_SUFFIX = ".replaced";
+
+  private final Path directory;
+  private final Path manifest;
+  private final Duration groupCommitWindow;
+  private final CsvActivities.Durability durability;
+
+  private NavigableMap<YearMonth, CsvActivities> segments;
+  private ManifestState manifestState;
+
+  public SegmentedCsvActivities(Path directory) {
+    this(directory, Duration.ZERO, CsvActivities.Durability.OS_BUFFER);
+  }
+
+  public SegmentedCsvActivities(
+      Path directory, Duration groupCommitWindow, CsvActivities.Durability durability) {
+    this.directory = directory;
+    this.manifest = directory.resolve(MANIFEST_FILE);
+    this.groupCommitWindow = groupCommitWindow;
+    this.durability = durability;
+  }
+
+  @Override
+  public void append(Activity activity) throws Exception {
+    try {
+      segment(YearMonth.from(activity.timestamp())).append(activity);
+    } catch (Exception e) {
+      throw new IOException("Failed to append activity to directory " + directory, e);
+    }
+  }
+
+  @Override
+  public List<Activity> findInPeriod(LocalDate from, LocalDate to) throws Exception {
+    try {
+      var activities = new ArrayList<Activity>();
+      for (var segment : segments(from, to)) {
+        activities.addAll(segment.findInPeriod(from, to));
+      }
+      return activities;
+    } catch (Exception e) {
+      throw new IOException("Failed to find activities in period from directory " + directory, e);
+    }
+  }
+
+  @Override
+  public Stream<Activity> streamInPeriod(LocalDate from, LocalDate to) throws Exception {
+    try {
+      return segments(from, to).stream().flatMap(segment -> stream(segment, from, to));
+    } catch (Exception e) {
+      throw new IOException("Failed to stream activities in period from directory " + directory, e);
+    }
+  }
+
+  @Override
+  public Object changeToken() throws Exception {
+    var tokens = new ArrayList<>();
+    for (var segment : segments(LocalDate.MIN, LocalDate.MAX)) {
+      tokens.add(segment.changeToken());
+    }
+    return tokens;
+  }
+
+  public synchronized int migrate(Activities source) throws Exception {
+    try {
+      if (!loadSegments().isEmpty()) {
+        return 0;
+      }
+
+      // Migrate into a staging directory and move it into place when complete, so an interrupted
+      // migration never leaves a partial store behind that would be taken for a complete one.
+      var staging = directory.resolveSibling(directory.getFileName() + MIGRATION_SUFFIX);
+      deleteDirectory(staging);
+      int count;
+      try (var target =
+          new SegmentedCsvActivities(staging, Duration.ZERO, CsvActivities.Durability.FSYNC)) {
+        count = target.importAll(source);
+      }
+      if (count == 0) {
+        deleteDirectory(staging);
+        return 0;
+      }
+
+      // The directory may hold leftovers without segments, like an empty manifest. Move it aside,
+      // because the staging directory can only be moved to a path that does not exist.
+      var replaced = directory.resolveSibling(directory.getFileName() + REPLACED_SUFFIX);
+      deleteDirectory(replaced);
+      if (Files.exists(directory)) {
+        Files.move(directory, replaced, StandardCopyOption.ATOMIC_MOVE);
+      }
+      Files.move(staging, directory, StandardCopyOption.ATOMIC_MOVE);
+      deleteDirectory(replaced);
+      return count;
+    } catch (Exception e) {
+      throw new IOException("Failed to migrate activities to directory " + directory, e);
+    }
+  }
+
+  private int importAll(Activities source) throws Exception {
+    var count = 0;
+    var batches = new HashMap<YearMonth, List<Activity>>();
+    try (var activities = source.streamInPeriod(LocalDate.MIN, LocalDate.MAX)) {
+      for (var activity : (Iterable<Activity>) activities::iterator) {
+        count++;
+        var month = YearMonth.from(activity.timestamp());
+        var batch = batches.computeIfAbsent(month, m -> new ArrayList<>());
+        batch.add(activity);
+        if (batch.size() == MIGRATION_BATCH_SIZE) {
+          segment(month).appendAll(batch);
+          batch.clear();
+        }
+      }
+    }
+    for (var batch : batches.entrySet()) {
+      segment(batch.getKey()).appendAll(batch.getValue());
+    }
+    return count;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (segments == null) {
+      return;
+    }
+
+    for (var segment : segments.values()) {
+      segment.close();
+    }
+    segments = null;
+  }
+
+  private synchronized List<CsvActivities> segments(LocalDate from, LocalDate to)
+      throws IOException {
+    return List.copyOf(
+        loadSegments().subMap(YearMonth.from(from), true, YearMonth.from(to), true).values());
+  }
+
+  private synchronized CsvActivities segment(YearMonth month) throws IOException {
+    var segment = loadSegments().get(month);
+    if (segment == null) {
+      Files.createDirectories(directory);
+      segment = newSegment(month);
+      segments.put(month, segment);
+      storeManifest();
+    }
+    return segment;
+  }
+
+  private NavigableMap<YearMonth, CsvActivities> loadSegments() throws IOException {
+    var state = manifestState();
+    if (segments != null && state.equals(manifestState)) {
+      return segments;
+    }
+
+    var loaded = new TreeMap<YearMonth, CsvActivities>();
+    for (var month : readManifest()) {
+      var segment = segments != null ? segments.get(month) : null;
+      loaded.put(month, segment != null ? segment : newSegment(month));
+    }
+    segments = loaded;
+    manifestState = state;
+    return segments;
+  }
+
+  private List<YearMonth> readManifest() throws IOException {
+    try {
+      return Files.readAllLines(manifest, StandardCharsets.UTF_8).stream()
+          .filter(line -> !line.isBlank())
+          .map(line -> YearMonth.parse(line.strip()))
+          .toList();
+    } catch (NoSuchFileException e) {
+      return List.of();
+    }
+  }
+
+  private ManifestState manifestState() throws IOException {
+    try {
+      var attributes = Files.readAttributes(manifest, BasicFileAttributes.class);
+      return new ManifestState(attributes.size(), attributes.lastModifiedTime().toMillis());
+    } catch (NoSuchFileException e) {
+      return new ManifestState(-1, -1);
+    }
+  }
+
+  private CsvActivities newSegment(YearMonth month) {
+    var file = directory.resolve("activity-log-%s.csv".formatted(month));
+    return new CsvActivities(file, groupCommitWindow, durability);
+  }
+
+  private void storeManifest() throws IOException {
+    var months = new TreeSet<>(readManifest());
+    months.addAll(segments.keySet());
+    var lines = months.stream().map(YearMonth::toString).toList();
+    var temporary = manifest.resolveSibling(MANIFEST_FILE + ".tmp");
+    Files.write(temporary, lines, StandardCharsets.UTF_8);
+    Files.move(
+        temporary,
+        manifest,
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static void deleteDirectory(Path directory) throws IOException {
+    if (!Files.exists(directory)) {
+      return;
+    }
+
+    try (var files = Files.walk(directory)) {
+      for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  private static Stream<Activity> stream(CsvActivities segment, LocalDate from, LocalDate to) {
+    try {
+      return segment.streamInPeriod(from, to);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record ManifestState(long size, long modified) {}
+}
@@ -0,0 +1,31 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.infrastructure;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class StringPool {
+  private static final int CAPACITY = 10_000;
+
+  private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+  String intern(String value) {
+    if (value == null) {
+      return null;
+    }
+
+    var pooled = strings.putIfAbsent(value, value);
+    if (pooled != null) {
+      return pooled;
+    }
+    if (strings.size() > CAPACITY) {
+      // Not a dimension with few distinct values, stop growing.
+      strings.clear();
+    }
+    return value;
+  }
+}
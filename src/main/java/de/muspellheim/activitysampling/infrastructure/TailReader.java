@@ -0,0 +1,107 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.infrastructure;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.OptionalLong;
+
+class TailReader {
+  private static final int BLOCK_SIZE = 1 << 16;
+  private static final int DATE_LENGTH = 10;
+  private static final long INVALID_DAY = Long.MAX_VALUE;
+
+  private final Path file;
+
+  TailReader(Path file) {
+    this.file = file;
+  }
+
+  OptionalLong seek(LocalDate date) throws IOException {
+    // Scans backwards from the end of the file. The file ends outside of quotes, so the parity of
+    // the quotes seen so far tells whether a newline ends a record or belongs to a quoted field.
+    // Returns the offset of the first record on or after the date, or nothing if the scanned tail
+    // is not chronological or reaches the header.
+    var day = date.toEpochDay();
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      var size = channel.size();
+      var offset = size;
+      var laterDay = Long.MAX_VALUE;
+      var quoted = false;
+      var blockEnd = size;
+      while (blockEnd > 0) {
+        var blockStart = Math.max(0, blockEnd - BLOCK_SIZE);
+        // Overlap with the following block, so a date after a newline is always in the buffer.
+        var buffer = read(channel, blockStart, Math.min(size, blockEnd + DATE_LENGTH));
+        for (var i = (int) (blockEnd - blockStart) - 1; i >= 0; i--) {
+          var b = buffer.get(i);
+          if (b == '"') {
+            quoted = !quoted;
+          } else if (b == '\n' && !quoted && isRecordStart(buffer, i + 1)) {
+            var recordDay = parseDay(buffer, i + 1);
+            if (recordDay == INVALID_DAY || recordDay > laterDay) {
+              return OptionalLong.empty();
+            }
+            if (recordDay < day) {
+              return OptionalLong.of(offset);
+            }
+            offset = blockStart + i + 1;
+            laterDay = recordDay;
+          }
+        }
+        blockEnd = blockStart;
+      }
+      return OptionalLong.empty();
+    }
+  }
+
+  private static ByteBuffer read(FileChannel channel, long start, long end) throws IOException {
+    var buffer = ByteBuffer.allocate((int) (end - start));
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, start + buffer.position()) < 0) {
+        break;
+      }
+    }
+    return buffer.flip();
+  }
+
+  private static boolean isRecordStart(ByteBuffer buffer, int index) {
+    return index < buffer.limit() && buffer.get(index) != '\r' && buffer.get(index) != '\n';
+  }
+
+  private static long parseDay(ByteBuffer buffer, int index) {
+    if (index + DATE_LENGTH > buffer.limit()
+        || buffer.get(index + 4) != '-'
+        || buffer.get(index + 7) != '-') {
+      return INVALID_DAY;
+    }
+
+    try {
+      return LocalDate.of(
+              digits(buffer, index, 4), digits(buffer, index + 5, 2), digits(buffer, index + 8, 2))
+          .toEpochDay();
+    } catch (DateTimeException e) {
+      return INVALID_DAY;
+    }
+  }
+
+  private static int digits(ByteBuffer buffer, int index, int count) {
+    var value = 0;
+    for (var i = index; i < index + count; i++) {
+      var digit = buffer.get(i) - '0';
+      if (digit < 0 || digit > 9) {
+        throw new DateTimeException("Invalid digit at index " + i);
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+}
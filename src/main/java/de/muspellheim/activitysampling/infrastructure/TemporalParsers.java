@@ -0,0 +1,109 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.infrastructure;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Public for the unit tests and benchmarks, which live in packages of their own. The module exports
+// no package, so this is not visible outside the application.
+public class TemporalParsers {
+  private static final int MAX_DURATION_DIGITS = 9;
+
+  private TemporalParsers() {}
+
+  public static LocalDateTime parseTimestamp(CharSequence text) {
+    // Fast path for the format written by LocalDateTime.toString() truncated to seconds:
+    // yyyy-MM-ddTHH:mm or yyyy-MM-ddTHH:mm:ss. Everything else goes through the JDK parser.
+    var length = text.length();
+    if ((length != 16 && length != 19)
+        || text.charAt(4) != '-'
+        || text.charAt(7) != '-'
+        || text.charAt(10) != 'T'
+        || text.charAt(13) != ':'
+        || (length == 19 && text.charAt(16) != ':')) {
+      return LocalDateTime.parse(text.toString());
+    }
+
+    var year = digits(text, 0, 4);
+    var month = digits(text, 5, 2);
+    var day = digits(text, 8, 2);
+    var hour = digits(text, 11, 2);
+    var minute = digits(text, 14, 2);
+    var second = length == 19 ? digits(text, 17, 2) : 0;
+    if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+      return LocalDateTime.parse(text.toString());
+    }
+    return LocalDateTime.of(year, month, day, hour, minute, second);
+  }
+
+  public static Duration parseDuration(CharSequence text) {
+    // Fast path for the format written by Duration.toString() for whole seconds: PTnHnMnS with
+    // each unit optional. Fractions, days, signs and overflow go through the JDK parser.
+    var length = text.length();
+    if (length < 4 || text.charAt(0) != 'P' || text.charAt(1) != 'T') {
+      return Duration.parse(text.toString());
+    }
+
+    var seconds = 0L;
+    var unitsSeen = 0;
+    var position = 2;
+    while (position < length) {
+      var start = position;
+      var value = 0L;
+      while (position < length && isDigit(text.charAt(position))) {
+        value = value * 10 + text.charAt(position) - '0';
+        position++;
+      }
+      var digitCount = position - start;
+      if (digitCount == 0 || digitCount > MAX_DURATION_DIGITS || position == length) {
+        return Duration.parse(text.toString());
+      }
+
+      var unit = unitIndex(text.charAt(position));
+      if (unit <= unitsSeen) {
+        return Duration.parse(text.toString());
+      }
+      seconds += value * unitSeconds(unit);
+      unitsSeen = unit;
+      position++;
+    }
+    return Duration.ofSeconds(seconds);
+  }
+
+  private static int digits(CharSequence text, int start, int count) {
+    var value = 0;
+    for (var i = start; i < start + count; i++) {
+      var c = text.charAt(i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      value = value * 10 + c - '0';
+    }
+    return value;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static int unitIndex(char c) {
+    return switch (c) {
+      case 'H' -> 1;
+      case 'M' -> 2;
+      case 'S' -> 3;
+      default -> 0;
+    };
+  }
+
+  private static long unitSeconds(int unit) {
+    return switch (unit) {
+      case 1 -> 3600;
+      case 2 -> 60;
+      default -> 1;
+    };
+  }
+}
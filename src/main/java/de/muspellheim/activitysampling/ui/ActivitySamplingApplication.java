@@ -8,6 +8,7 @@ package de.muspellheim.activitysampling.ui;
 import de.muspellheim.activitysampling.ui.about.AboutView;
 import de.muspellheim.activitysampling.ui.activitysampling.ActivitySamplingView;
 import de.muspellheim.activitysampling.ui.shared.Configuration;
+import de.muspellheim.activitysampling.ui.shared.Registry;
 import de.muspellheim.activitysampling.ui.time.TimeView;
 import de.muspellheim.activitysampling.ui.timesheet.TimesheetView;
 import java.nio.file.Paths;
@@ -17,6 +18,7 @@ import javafx.stage.Stage;
 public class ActivitySamplingApplication extends Application {
 
   private static final String ARG_LOG_FILE = "log-file";
+  private static final String ARG_CDS_TRAINING = "--cds-training";
 
   @Override
   public void init() {
@@ -34,10 +36,20 @@ public class ActivitySamplingApplication extends Application {
     activitySamplingView.addOpenTimesheetListener(
         e -> openTimesheetView(activitySamplingView.getStage()));
     activitySamplingView.addOpenAboutListener(e -> openAbout(activitySamplingView.getStage()));
+    if (getParameters().getUnnamed().contains(ARG_CDS_TRAINING)) {
+      // The build runs the application once to archive the classes of a startup for class data
+      // sharing. The archive is written when the VM exits.
+      activitySamplingView.addLoadedListener(e -> System.exit(0));
+    }
 
     activitySamplingView.run();
   }
 
+  @Override
+  public void stop() {
+    Registry.shutdown();
+  }
+
   private static void openTimeView(Stage owner) {
     var view = TimeView.newInstance(owner);
     view.run();
@@ -0,0 +1,64 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.ui.activitysampling;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.WorkingDay;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+class ActivityItemFactory {
+  private final DateTimeFormatter dateFormatter;
+  private final DateTimeFormatter timeFormatter;
+  private final StringBuilder text = new StringBuilder();
+
+  ActivityItemFactory(Locale locale) {
+    dateFormatter = DateTimeFormatter.ofLocalizedDate(FormatStyle.FULL).withLocale(locale);
+    timeFormatter = DateTimeFormatter.ofLocalizedTime(FormatStyle.SHORT).withLocale(locale);
+  }
+
+  List<ActivityItem> newItems(List<WorkingDay> workingDays) {
+    var size = 0;
+    for (var day : workingDays) {
+      size += 1 + day.activities().size();
+    }
+
+    var items = new ArrayList<ActivityItem>(size);
+    for (var day : workingDays) {
+      items.add(newHeader(day.date()));
+      for (var activity : day.activities()) {
+        items.add(newItem(activity));
+      }
+    }
+    return items;
+  }
+
+  ActivityItem newHeader(LocalDate date) {
+    return new ActivityItem(dateFormatter.format(date), null, null, null, null);
+  }
+
+  ActivityItem newItem(Activity activity) {
+    // Not thread-safe, the text buffer is reused for all items.
+    text.setLength(0);
+    timeFormatter.formatTo(activity.timestamp(), text);
+    text.append(" - ")
+        .append(activity.project())
+        .append(" (")
+        .append(activity.client())
+        .append(") ")
+        .append(activity.task());
+    return new ActivityItem(
+        text.toString(),
+        activity.client(),
+        activity.project(),
+        activity.task(),
+        activity.notes());
+  }
+}
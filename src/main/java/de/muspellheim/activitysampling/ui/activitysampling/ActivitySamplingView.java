@@ -10,8 +10,13 @@ import de.muspellheim.activitysampling.ui.shared.Registry;
 import de.muspellheim.activitysampling.util.EventEmitter;
 import java.time.Duration;
 import java.util.function.Consumer;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Cursor;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
@@ -27,6 +32,7 @@ public class ActivitySamplingView {
   private final EventEmitter<Void> openTime = new EventEmitter<>();
   private final EventEmitter<Void> openTimesheet = new EventEmitter<>();
   private final EventEmitter<Void> openAbout = new EventEmitter<>();
+  private final EventEmitter<Void> loaded = new EventEmitter<>();
 
   @FXML private Stage stage;
   @FXML private MenuBar menuBar;
@@ -46,10 +52,10 @@ public class ActivitySamplingView {
   @FXML private Label hoursThisMonth;
 
   private final ActivitySamplingViewModel viewModel =
-      new ActivitySamplingViewModel(Registry.getActivitiesService());
+      new ActivitySamplingViewModel(Registry.getAsyncActivitiesService());
 
   private final SystemClock systemClock = new SystemClock();
-  private final Notifier notifier = new Notifier(viewModel);
+  private Notifier notifier;
 
   public static ActivitySamplingView newInstance(Stage stage) {
     var file = "/ActivitySamplingView.fxml";
@@ -71,7 +77,7 @@ public class ActivitySamplingView {
 
     systemClock.addOnTickListener(viewModel::progressCountdown);
     viewModel.addErrorOccurredListener(ErrorView::show);
-    stage.setOnCloseRequest(e -> notifier.dispose());
+    stage.setOnCloseRequest(e -> disposeNotifier());
     stopMenuItem.disableProperty().bind(viewModel.stopMenuItemDisableProperty());
     form.disableProperty().bind(viewModel.formDisableProperty());
     client.textProperty().bindBidirectional(viewModel.clientTextProperty());
@@ -82,6 +88,9 @@ public class ActivitySamplingView {
     countdownLabel.textProperty().bind(viewModel.countdownLabelTextProperty());
     countdown.progressProperty().bind(viewModel.countdownProgressProperty());
     recentActivities.setItems(viewModel.getRecentActivities());
+    var cursor =
+        Bindings.when(viewModel.loadingProperty()).then(Cursor.WAIT).otherwise(Cursor.DEFAULT);
+    recentActivities.cursorProperty().bind(cursor);
     hoursToday.textProperty().bind(viewModel.hoursTodayTextProperty());
     hoursYesterday.textProperty().bind(viewModel.hoursYesterdayTextProperty());
     hoursThisWeek.textProperty().bind(viewModel.hoursThisWeekTextProperty());
@@ -116,10 +125,77 @@ public class ActivitySamplingView {
     openAbout.removeListener(listener);
   }
 
+  public final void addLoadedListener(Consumer<Void> listener) {
+    loaded.addListener(listener);
+  }
+
+  public final void removeLoadedListener(Consumer<Void> listener) {
+    loaded.removeListener(listener);
+  }
+
   public void run() {
     stage.show();
-    viewModel.load();
     client.requestFocus();
+    runAfterFirstFrame(
+        () -> {
+          viewModel.load();
+          notifier = new Notifier(viewModel);
+          emitWhenLoaded();
+        });
+  }
+
+  private void emitWhenLoaded() {
+    if (!viewModel.isLoading()) {
+      loaded.emit(null);
+      return;
+    }
+
+    viewModel
+        .loadingProperty()
+        .addListener(
+            new ChangeListener<>() {
+              @Override
+              public void changed(
+                  ObservableValue<? extends Boolean> observable,
+                  Boolean oldValue,
+                  Boolean newValue) {
+                if (!newValue) {
+                  observable.removeListener(this);
+                  loaded.emit(null);
+                }
+              }
+            });
+  }
+
+  private void runAfterFirstFrame(Runnable action) {
+    // Loading the log and initializing the system tray are not needed to show the window.
+    var scene = stage.getScene();
+    scene.addPostLayoutPulseListener(
+        new Runnable() {
+          private boolean done;
+
+          @Override
+          public void run() {
+            if (done) {
+              return;
+            }
+
+            done = true;
+            Platform.runLater(
+                () -> {
+                  scene.removePostLayoutPulseListener(this);
+                  action.run();
+                });
+          }
+        });
+  }
+
+  private void disposeNotifier() {
+    if (notifier == null) {
+      return;
+    }
+
+    notifier.dispose();
   }
 
   @FXML
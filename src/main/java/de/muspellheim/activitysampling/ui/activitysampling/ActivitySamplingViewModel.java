@@ -6,21 +6,29 @@
 package de.muspellheim.activitysampling.ui.activitysampling;
 
 import de.muspellheim.activitysampling.application.ActivitiesService;
+import de.muspellheim.activitysampling.application.AsyncActivitiesService;
 import de.muspellheim.activitysampling.domain.Activity;
 import de.muspellheim.activitysampling.domain.RecentActivities;
 import de.muspellheim.activitysampling.util.Durations;
 import de.muspellheim.activitysampling.util.EventEmitter;
+import de.muspellheim.activitysampling.util.Exceptions;
 import de.muspellheim.activitysampling.util.OutputTracker;
 import java.time.Clock;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.FormatStyle;
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -33,8 +41,9 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 public class ActivitySamplingViewModel {
-  private final ActivitiesService activitiesService;
-  private final Locale locale;
+  private final AsyncActivitiesService activitiesService;
+  private final Executor uiExecutor;
+  private final ActivityItemFactory itemFactory;
   private final Clock clock;
 
   // State
@@ -42,6 +51,9 @@ public class ActivitySamplingViewModel {
   private final ObjectProperty<Duration> countdown = new SimpleObjectProperty<>(interval);
   private final BooleanProperty countdownActive = new SimpleBooleanProperty(false);
   private final BooleanProperty intervalLogged = new SimpleBooleanProperty(false);
+  private CompletableFuture<RecentActivities> pendingLoad = CompletableFuture.completedFuture(null);
+  private RecentActivities recentActivities;
+  private LocalDate recentActivitiesDate;
 
   /* *************************************************************************
    *                                                                         *
@@ -49,14 +61,25 @@ public class ActivitySamplingViewModel {
    *                                                                         *
    **************************************************************************/
 
-  public ActivitySamplingViewModel(ActivitiesService activitiesService) {
-    this(activitiesService, Locale.getDefault(), Clock.systemDefaultZone());
+  public ActivitySamplingViewModel(AsyncActivitiesService activitiesService) {
+    this(
+        activitiesService,
+        Platform::runLater,
+        Locale.getDefault(),
+        Clock.systemDefaultZone());
   }
 
   public ActivitySamplingViewModel(
       ActivitiesService activitiesService, Locale locale, Clock clock) {
+    this(
+        new AsyncActivitiesService(activitiesService, Runnable::run), Runnable::run, locale, clock);
+  }
+
+  public ActivitySamplingViewModel(
+      AsyncActivitiesService activitiesService, Executor uiExecutor, Locale locale, Clock clock) {
     this.activitiesService = activitiesService;
-    this.locale = locale;
+    this.uiExecutor = uiExecutor;
+    itemFactory = new ActivityItemFactory(locale);
     this.clock = clock;
     // TODO Make default interval configurable; use when countdown off
   }
@@ -241,6 +264,18 @@ public class ActivitySamplingViewModel {
     return countdownProgress.get();
   }
 
+  // --- loading
+
+  private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(false);
+
+  public ReadOnlyBooleanProperty loadingProperty() {
+    return loading.getReadOnlyProperty();
+  }
+
+  public final boolean isLoading() {
+    return loading.get();
+  }
+
   // --- recentActivityItems
 
   private final ObservableList<ActivityItem> recentActivityItems =
@@ -305,24 +340,68 @@ public class ActivitySamplingViewModel {
    **************************************************************************/
 
   public void load() {
-    try {
-      var recentActivities = activitiesService.getRecentActivities();
-      updateActivityItems(recentActivities);
-      updateTimeSummary(recentActivities);
-    } catch (Exception e) {
-      errorOccurred.emit(new Exception("Failed to load activities.", e));
+    pendingLoad.cancel(false);
+    loading.set(true);
+    var request = activitiesService.getRecentActivities();
+    pendingLoad = request;
+    request.whenCompleteAsync(
+        (recentActivities, e) -> {
+          if (request != pendingLoad) {
+            return;
+          }
+
+          loading.set(false);
+          if (e != null) {
+            var cause = Exceptions.unwrapCompletion(e);
+            errorOccurred.emit(new Exception("Failed to load activities.", cause));
+            return;
+          }
+
+          this.recentActivities = recentActivities;
+          recentActivitiesDate = LocalDate.now(clock);
+          updateActivityItems(recentActivities);
+          updateTimeSummary(recentActivities);
+        },
+        uiExecutor);
+  }
+
+  private void addRecentActivity(Activity activity) {
+    var today = LocalDate.now(clock);
+    if (recentActivities == null || !today.equals(recentActivitiesDate) || loading.get()) {
+      load();
+      return;
     }
+
+    recentActivities = recentActivities.plus(today, activity);
+    insertActivityItem(activity);
+    updateTimeSummary(recentActivities);
   }
 
-  private void updateActivityItems(RecentActivities recentActivities) {
-    var items = new ArrayList<ActivityItem>();
+  private void insertActivityItem(Activity activity) {
+    // The items still show the previous working days, update them to the current ones.
+    var date = activity.timestamp().toLocalDate();
+    var index = 0;
     for (var day : recentActivities.workingDays()) {
-      items.add(ActivityItem.newHeader(day, locale));
-      for (var activity : day.activities()) {
-        items.add(ActivityItem.newItem(activity, locale));
+      if (day.date().equals(date)) {
+        var position = day.activities().indexOf(activity);
+        var item = itemFactory.newItem(activity);
+        if (day.activities().size() == 1) {
+          recentActivityItems.addAll(index, List.of(itemFactory.newHeader(date), item));
+        } else {
+          recentActivityItems.add(index + 1 + position, item);
+        }
       }
+      index += 1 + day.activities().size();
+    }
+
+    // Days that left the window are the oldest ones at the end.
+    if (recentActivityItems.size() > index) {
+      recentActivityItems.remove(index, recentActivityItems.size());
     }
-    recentActivityItems.setAll(items);
+  }
+
+  private void updateActivityItems(RecentActivities recentActivities) {
+    recentActivityItems.setAll(itemFactory.newItems(recentActivities.workingDays()));
   }
 
   private void updateTimeSummary(RecentActivities recentActivities) {
@@ -336,8 +415,9 @@ public class ActivitySamplingViewModel {
   public void logActivity() {
     // TODO log the timestamp when the countdown elapsed
     // TODO log the current timestamp when the countdown is not active
+    Activity activity;
     try {
-      activitiesService.logActivity(
+      activity =
           Activity.builder()
               .timestamp(LocalDateTime.now(clock))
               .duration(interval)
@@ -345,12 +425,26 @@ public class ActivitySamplingViewModel {
               .project(projectText.get())
               .task(taskText.get())
               .notes(notesText.get())
-              .build());
-      intervalLogged.set(true);
-      load();
+              .build();
     } catch (Exception e) {
       errorOccurred.emit(new Exception("Failed to log activity.", e));
+      return;
     }
+
+    activitiesService
+        .logActivity(activity)
+        .whenCompleteAsync(
+            (result, e) -> {
+              if (e != null) {
+                var cause = Exceptions.unwrapCompletion(e);
+                errorOccurred.emit(new Exception("Failed to log activity.", cause));
+                return;
+              }
+
+              intervalLogged.set(true);
+              addRecentActivity(activity);
+            },
+            uiExecutor);
   }
 
   public void setActivity(ActivityItem item) {
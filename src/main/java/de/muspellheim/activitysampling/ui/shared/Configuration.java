@@ -5,26 +5,76 @@
 
 package de.muspellheim.activitysampling.ui.shared;
 
+import de.muspellheim.activitysampling.infrastructure.CsvActivities.Durability;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
 public class Configuration {
+  public enum Storage {
+    CSV,
+    RESIDENT_CSV,
+    SEGMENTED_CSV,
+    BINARY,
+    H2,
+  }
+
+  private static final String STORAGE_PROPERTY = "activitySampling.storage";
   private static final String LOG_FILE_PROPERTY = "activitySampling.logFile";
+  private static final String SEGMENT_DIRECTORY_PROPERTY = "activitySampling.segmentDirectory";
+  private static final String BINARY_DIRECTORY_PROPERTY = "activitySampling.binaryDirectory";
+  private static final String DATABASE_FILE_PROPERTY = "activitySampling.databaseFile";
+  private static final String GROUP_COMMIT_WINDOW_PROPERTY = "activitySampling.groupCommitWindow";
+  private static final String DURABILITY_PROPERTY = "activitySampling.durability";
+  private static final String READ_PARALLELISM_PROPERTY = "activitySampling.readParallelism";
   private static final Path DEFAULT_LOG_FILE =
       Paths.get(System.getProperty("user.home"), "activity-log.csv");
+  private static final Path DEFAULT_SEGMENT_DIRECTORY =
+      Paths.get(System.getProperty("user.home"), "activity-log-segments");
+  private static final Path DEFAULT_BINARY_DIRECTORY =
+      Paths.get(System.getProperty("user.home"), "activity-log-binary");
+  private static final Path DEFAULT_DATABASE_FILE =
+      Paths.get(System.getProperty("user.home"), "activity-log");
 
   private static final Configuration INSTANCE = new Configuration();
 
+  private Storage storage;
   private Path logFile;
+  private Path segmentDirectory;
+  private Path binaryDirectory;
+  private Path databaseFile;
+  private Duration groupCommitWindow;
+  private Durability durability;
+  private int readParallelism;
 
   private Configuration() {
+    storage = Storage.valueOf(System.getProperty(STORAGE_PROPERTY, "CSV"));
     logFile = Paths.get(System.getProperty(LOG_FILE_PROPERTY, DEFAULT_LOG_FILE.toString()));
+    segmentDirectory =
+        Paths.get(
+            System.getProperty(SEGMENT_DIRECTORY_PROPERTY, DEFAULT_SEGMENT_DIRECTORY.toString()));
+    binaryDirectory =
+        Paths.get(
+            System.getProperty(BINARY_DIRECTORY_PROPERTY, DEFAULT_BINARY_DIRECTORY.toString()));
+    databaseFile =
+        Paths.get(System.getProperty(DATABASE_FILE_PROPERTY, DEFAULT_DATABASE_FILE.toString()));
+    groupCommitWindow = Duration.parse(System.getProperty(GROUP_COMMIT_WINDOW_PROPERTY, "PT0S"));
+    durability = Durability.valueOf(System.getProperty(DURABILITY_PROPERTY, "OS_BUFFER"));
+    readParallelism = Integer.getInteger(READ_PARALLELISM_PROPERTY, 1);
   }
 
   public static Configuration getInstance() {
     return INSTANCE;
   }
 
+  public Storage getStorage() {
+    return storage;
+  }
+
+  public void setStorage(Storage storage) {
+    this.storage = storage;
+  }
+
   public Path getLogFile() {
     return logFile;
   }
@@ -32,4 +82,52 @@ public class Configuration {
   public void setLogFile(Path logFile) {
     this.logFile = logFile;
   }
+
+  public Path getSegmentDirectory() {
+    return segmentDirectory;
+  }
+
+  public void setSegmentDirectory(Path segmentDirectory) {
+    this.segmentDirectory = segmentDirectory;
+  }
+
+  public Path getBinaryDirectory() {
+    return binaryDirectory;
+  }
+
+  public void setBinaryDirectory(Path binaryDirectory) {
+    this.binaryDirectory = binaryDirectory;
+  }
+
+  public Path getDatabaseFile() {
+    return databaseFile;
+  }
+
+  public void setDatabaseFile(Path databaseFile) {
+    this.databaseFile = databaseFile;
+  }
+
+  public Duration getGroupCommitWindow() {
+    return groupCommitWindow;
+  }
+
+  public void setGroupCommitWindow(Duration groupCommitWindow) {
+    this.groupCommitWindow = groupCommitWindow;
+  }
+
+  public Durability getDurability() {
+    return durability;
+  }
+
+  public void setDurability(Durability durability) {
+    this.durability = durability;
+  }
+
+  public int getReadParallelism() {
+    return readParallelism;
+  }
+
+  public void setReadParallelism(int readParallelism) {
+    this.readParallelism = readParallelism;
+  }
 }
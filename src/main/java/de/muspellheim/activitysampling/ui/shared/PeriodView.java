@@ -8,6 +8,7 @@ package de.muspellheim.activitysampling.ui.shared;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 import javafx.fxml.FXML;
 import javafx.scene.control.ChoiceBox;
@@ -55,6 +56,14 @@ public class PeriodView {
     return viewModel.getTo();
   }
 
+  public final Optional<PeriodViewModel.Range> getPreviousPeriod() {
+    return viewModel.getPreviousPeriod();
+  }
+
+  public final Optional<PeriodViewModel.Range> getNextPeriod() {
+    return viewModel.getNextPeriod();
+  }
+
   @FXML
   private void back() {
     viewModel.back();
@@ -13,7 +13,12 @@ import java.time.format.FormatStyle;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
@@ -23,6 +28,10 @@ import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.beans.property.SimpleObjectProperty;
 
 public class PeriodViewModel {
+  private static final long NAVIGATION_DELAY_MILLIS = 250;
+
+  private final Executor navigationExecutor;
+  private long navigations;
 
   /* *************************************************************************
    *                                                                         *
@@ -31,10 +40,19 @@ public class PeriodViewModel {
    **************************************************************************/
 
   public PeriodViewModel() {
-    this(Locale.getDefault(), Clock.systemDefaultZone());
+    this(
+        Locale.getDefault(),
+        Clock.systemDefaultZone(),
+        CompletableFuture.delayedExecutor(
+            NAVIGATION_DELAY_MILLIS, TimeUnit.MILLISECONDS, Platform::runLater));
   }
 
   public PeriodViewModel(Locale locale, Clock clock) {
+    this(locale, clock, Runnable::run);
+  }
+
+  public PeriodViewModel(Locale locale, Clock clock, Executor navigationExecutor) {
+    this.navigationExecutor = navigationExecutor;
     var dateFormatter = DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM).withLocale(locale);
     initPeriodWithCurrentWeek(clock);
 
@@ -145,6 +163,7 @@ public class PeriodViewModel {
             default ->
                 throw new IllegalArgumentException("Unsupported period: %s.".formatted(get()));
           }
+          navigations++;
           periodChanged.emit(null);
         }
       };
@@ -191,49 +210,49 @@ public class PeriodViewModel {
    *                                                                         *
    **************************************************************************/
 
+  public final Optional<Range> getPreviousPeriod() {
+    return shift(-1);
+  }
+
+  public final Optional<Range> getNextPeriod() {
+    return shift(1);
+  }
+
   public void back() {
-    switch (periodOfChoiceValue.get()) {
-      case DAYS -> {
-        from.set(from.get().minusDays(1));
-        to.set(to.get().minusDays(1));
-      }
-      case WEEKS -> {
-        from.set(from.get().minusWeeks(1));
-        to.set(to.get().minusWeeks(1));
-      }
-      case MONTHS -> {
-        var first = from.get().minusMonths(1);
-        from.set(first);
-        var last = first.plusMonths(1).minusDays(1);
-        to.set(last);
-      }
-      default -> {
-        // do nothing
-      }
-    }
-    periodChanged.emit(null);
+    navigateTo(getPreviousPeriod().orElseGet(() -> new Range(from.get(), to.get())));
   }
 
   public void forward() {
-    switch (periodOfChoiceValue.get()) {
-      case DAYS -> {
-        from.set(from.get().plusDays(1));
-        to.set(to.get().plusDays(1));
-      }
-      case WEEKS -> {
-        from.set(from.get().plusWeeks(1));
-        to.set(to.get().plusWeeks(1));
-      }
+    navigateTo(getNextPeriod().orElseGet(() -> new Range(from.get(), to.get())));
+  }
+
+  private Optional<Range> shift(int amount) {
+    return switch (periodOfChoiceValue.get()) {
+      case DAYS -> Optional.of(new Range(from.get().plusDays(amount), to.get().plusDays(amount)));
+      case WEEKS ->
+          Optional.of(new Range(from.get().plusWeeks(amount), to.get().plusWeeks(amount)));
       case MONTHS -> {
-        var firstDay = from.get().plusMonths(1);
-        from.set(firstDay);
-        var lastDay = firstDay.plusMonths(1).minusDays(1);
-        to.set(lastDay);
-      }
-      default -> {
-        // do nothing
+        var first = from.get().plusMonths(amount);
+        var last = first.plusMonths(1).minusDays(1);
+        yield Optional.of(new Range(first, last));
       }
-    }
-    periodChanged.emit(null);
+      default -> Optional.empty();
+    };
+  }
+
+  private void navigateTo(Range period) {
+    from.set(period.from());
+    to.set(period.to());
+
+    // Rapid clicks only notify about the period the user stops at.
+    var navigation = ++navigations;
+    navigationExecutor.execute(
+        () -> {
+          if (navigation == navigations) {
+            periodChanged.emit(null);
+          }
+        });
   }
+
+  public record Range(LocalDate from, LocalDate to) {}
 }
@@ -7,18 +7,191 @@ package de.muspellheim.activitysampling.ui.shared;
 
 import de.muspellheim.activitysampling.application.ActivitiesService;
 import de.muspellheim.activitysampling.application.ActivitiesServiceImpl;
+import de.muspellheim.activitysampling.application.AsyncActivitiesService;
+import de.muspellheim.activitysampling.infrastructure.BinaryActivities;
 import de.muspellheim.activitysampling.infrastructure.CsvActivities;
+import de.muspellheim.activitysampling.infrastructure.CsvActivityRollups;
+import de.muspellheim.activitysampling.infrastructure.H2Activities;
+import de.muspellheim.activitysampling.infrastructure.H2ActivityRollups;
+import de.muspellheim.activitysampling.infrastructure.ResidentActivities;
+import de.muspellheim.activitysampling.infrastructure.SegmentedCsvActivities;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.System.Logger.Level;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public class Registry {
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+  // All windows share one service, so its query cache stays warm across them. Resources are closed
+  // in reverse order of creation on shutdown.
+  private static final Deque<Closeable> resources = new ArrayDeque<>();
+  private static ActivitiesService activitiesService;
+  private static ExecutorService activitiesExecutor;
+  private static AsyncActivitiesService asyncActivitiesService;
+  private static boolean shutdownHookAdded;
 
   private Registry() {
     // do not instantiate static class
   }
 
-  public static ActivitiesService getActivitiesService() {
-    Configuration configuration = Configuration.getInstance();
+  public static synchronized ActivitiesService getActivitiesService() {
+    if (activitiesService == null) {
+      addShutdownHook();
+      activitiesService = newActivitiesService(Configuration.getInstance());
+    }
+    return activitiesService;
+  }
+
+  public static synchronized AsyncActivitiesService getAsyncActivitiesService() {
+    if (asyncActivitiesService == null) {
+      addShutdownHook();
+      activitiesExecutor =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                var thread = new Thread(runnable, "Activities Service");
+                thread.setDaemon(true);
+                return thread;
+              });
+      asyncActivitiesService =
+          new AsyncActivitiesService(Registry::getActivitiesService, activitiesExecutor);
+    }
+    return asyncActivitiesService;
+  }
+
+  public static void shutdown() {
+    ExecutorService executor;
+    synchronized (Registry.class) {
+      executor = activitiesExecutor;
+      activitiesExecutor = null;
+      asyncActivitiesService = null;
+    }
+    if (executor != null) {
+      // Let pending writes finish before the storage is closed. Pending tasks may still need the
+      // registry to resolve the service, so do not hold its lock while waiting.
+      executor.shutdown();
+      try {
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+          log("Activities service did not terminate in time.", null);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    synchronized (Registry.class) {
+      activitiesService = null;
+      while (!resources.isEmpty()) {
+        var resource = resources.pop();
+        try {
+          resource.close();
+        } catch (IOException e) {
+          log("Failed to close on shutdown.", e);
+        }
+      }
+    }
+  }
+
+  private static void addShutdownHook() {
+    if (shutdownHookAdded) {
+      return;
+    }
+
+    Runtime.getRuntime().addShutdownHook(new Thread(Registry::shutdown, "Registry Shutdown"));
+    shutdownHookAdded = true;
+  }
+
+  private static ActivitiesService newActivitiesService(Configuration configuration) {
+    return switch (configuration.getStorage()) {
+      case CSV -> newCsvActivitiesService(configuration);
+      case RESIDENT_CSV -> newResidentCsvActivitiesService(configuration);
+      case SEGMENTED_CSV -> newSegmentedCsvActivitiesService(configuration);
+      case BINARY -> newBinaryActivitiesService(configuration);
+      case H2 -> newH2ActivitiesService(configuration);
+    };
+  }
+
+  private static ActivitiesService newCsvActivitiesService(Configuration configuration) {
     var file = configuration.getLogFile();
-    var activities = new CsvActivities(file);
+    var activities =
+        new CsvActivities(
+            file,
+            configuration.getGroupCommitWindow(),
+            configuration.getDurability(),
+            configuration.getReadParallelism());
+    closeOnShutdown(activities);
+    var rollups = new CsvActivityRollups(file, activities);
+    return new ActivitiesServiceImpl(activities, rollups);
+  }
+
+  private static ActivitiesService newResidentCsvActivitiesService(Configuration configuration) {
+    var log =
+        new CsvActivities(
+            configuration.getLogFile(),
+            configuration.getGroupCommitWindow(),
+            configuration.getDurability(),
+            configuration.getReadParallelism());
+    closeOnShutdown(log);
+    return new ActivitiesServiceImpl(new ResidentActivities(log));
+  }
+
+  private static ActivitiesService newSegmentedCsvActivitiesService(Configuration configuration) {
+    var activities =
+        new SegmentedCsvActivities(
+            configuration.getSegmentDirectory(),
+            configuration.getGroupCommitWindow(),
+            configuration.getDurability());
+    closeOnShutdown(activities);
+    try {
+      try (var log = new CsvActivities(configuration.getLogFile())) {
+        activities.migrate(log);
+      }
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to migrate activities from file " + configuration.getLogFile(), e);
+    }
+    return new ActivitiesServiceImpl(activities);
+  }
+
+  private static ActivitiesService newBinaryActivitiesService(Configuration configuration) {
+    var activities = new BinaryActivities(configuration.getBinaryDirectory());
+    closeOnShutdown(activities);
+    try {
+      try (var log = new CsvActivities(configuration.getLogFile())) {
+        activities.importFrom(log);
+      }
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to import activities from file " + configuration.getLogFile(), e);
+    }
     return new ActivitiesServiceImpl(activities);
   }
+
+  private static ActivitiesService newH2ActivitiesService(Configuration configuration) {
+    var activities = new H2Activities(configuration.getDatabaseFile());
+    closeOnShutdown(activities);
+    try {
+      try (var log = new CsvActivities(configuration.getLogFile())) {
+        activities.migrate(log);
+      }
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to migrate activities from file " + configuration.getLogFile(), e);
+    }
+    var rollups = new H2ActivityRollups(activities);
+    return new ActivitiesServiceImpl(activities, rollups);
+  }
+
+  private static <T extends Closeable> T closeOnShutdown(T resource) {
+    resources.push(resource);
+    return resource;
+  }
+
+  private static void log(String message, Throwable thrown) {
+    System.getLogger(Registry.class.getName()).log(Level.WARNING, message, thrown);
+  }
 }
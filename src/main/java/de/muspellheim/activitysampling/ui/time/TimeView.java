@@ -10,9 +10,12 @@ import de.muspellheim.activitysampling.ui.shared.PeriodView;
 import de.muspellheim.activitysampling.ui.shared.Registry;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Pos;
+import javafx.scene.Cursor;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
@@ -32,7 +35,8 @@ public class TimeView {
   @FXML private TableColumn<TimeItem, String> hoursColumn;
   @FXML private Label totalLabel;
 
-  private final TimeViewModel viewModel = new TimeViewModel(Registry.getActivitiesService());
+  private final TimeViewModel viewModel =
+      new TimeViewModel(Registry.getAsyncActivitiesService(), Platform::runLater);
 
   public static TimeView newInstance(Stage owner) {
     String file = "/TimeView.fxml";
@@ -64,6 +68,9 @@ public class TimeView {
     periodViewController.addPeriodChangedListener(e -> update());
     viewModel.addErrorOccurredListener(ErrorView::show);
     timeTable.setItems(viewModel.getTimeItems());
+    var cursor =
+        Bindings.when(viewModel.loadingProperty()).then(Cursor.WAIT).otherwise(Cursor.DEFAULT);
+    timeTable.cursorProperty().bind(cursor);
     totalLabel.textProperty().bind(viewModel.totalLabelTextProperty());
   }
 
@@ -98,5 +105,11 @@ public class TimeView {
       viewModel.load(
           periodViewController.getFrom(), periodViewController.getTo(), TimeViewModel.Scope.TASKS);
     }
+    periodViewController
+        .getPreviousPeriod()
+        .ifPresent(previous -> viewModel.prefetch(previous.from(), previous.to()));
+    periodViewController
+        .getNextPeriod()
+        .ifPresent(next -> viewModel.prefetch(next.from(), next.to()));
   }
 }
@@ -6,16 +6,22 @@
 package de.muspellheim.activitysampling.ui.time;
 
 import de.muspellheim.activitysampling.application.ActivitiesService;
+import de.muspellheim.activitysampling.application.AsyncActivitiesService;
 import de.muspellheim.activitysampling.domain.TimeReport;
 import de.muspellheim.activitysampling.util.Durations;
 import de.muspellheim.activitysampling.util.EventEmitter;
+import de.muspellheim.activitysampling.util.Exceptions;
 import de.muspellheim.activitysampling.util.OutputTracker;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.FormatStyle;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.beans.value.ObservableStringValue;
 import javafx.collections.FXCollections;
@@ -30,7 +36,9 @@ public class TimeViewModel {
     TASKS,
   }
 
-  private final ActivitiesService activitiesService;
+  private final AsyncActivitiesService activitiesService;
+  private final Executor uiExecutor;
+  private CompletableFuture<TimeReport> pendingLoad = CompletableFuture.completedFuture(null);
 
   /* *************************************************************************
    *                                                                         *
@@ -39,7 +47,12 @@ public class TimeViewModel {
    **************************************************************************/
 
   public TimeViewModel(ActivitiesService activitiesService) {
+    this(new AsyncActivitiesService(activitiesService, Runnable::run), Runnable::run);
+  }
+
+  public TimeViewModel(AsyncActivitiesService activitiesService, Executor uiExecutor) {
     this.activitiesService = activitiesService;
+    this.uiExecutor = uiExecutor;
   }
 
   /* *************************************************************************
@@ -72,15 +85,27 @@ public class TimeViewModel {
 
   @Getter private final ObservableList<TimeItem> timeItems = FXCollections.observableArrayList();
 
+  // --- loading
+
+  private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(false);
+
+  public ReadOnlyBooleanProperty loadingProperty() {
+    return loading.getReadOnlyProperty();
+  }
+
+  public final boolean isLoading() {
+    return loading.get();
+  }
+
   // --- totalLabelText
 
   private final ReadOnlyStringWrapper totalLabelText = new ReadOnlyStringWrapper("00:00");
 
-  ObservableStringValue totalLabelTextProperty() {
+  public ObservableStringValue totalLabelTextProperty() {
     return totalLabelText.getReadOnlyProperty();
   }
 
-  public String getTotalLabelText() {
+  public final String getTotalLabelText() {
     return totalLabelText.get();
   }
 
@@ -91,20 +116,44 @@ public class TimeViewModel {
    **************************************************************************/
 
   public void load(LocalDate from, LocalDate to, Scope scope) {
-    try {
-      var report = activitiesService.getTimeReport(from, to);
-      if (scope == Scope.CLIENTS) {
-        report = report.groupByClient();
-      } else if (scope == Scope.PROJECTS) {
-        report = report.groupByProject();
-      } else {
-        report = report.groupByTask();
-      }
-      updateReportItems(report.entries(), scope);
-      updateTotal(report.total());
-    } catch (Exception e) {
-      errorOccurred.emit(new Exception("Failed to load report.", e));
-    }
+    // Cancel the query itself, not only the grouping, so a queued query is skipped.
+    pendingLoad.cancel(false);
+    loading.set(true);
+    var query = activitiesService.getTimeReport(from, to);
+    pendingLoad = query;
+    var request =
+        query.thenApply(
+            report -> {
+              if (scope == Scope.CLIENTS) {
+                return report.groupByClient();
+              } else if (scope == Scope.PROJECTS) {
+                return report.groupByProject();
+              } else {
+                return report.groupByTask();
+              }
+            });
+    request.whenCompleteAsync(
+        (report, e) -> {
+          if (query != pendingLoad) {
+            return;
+          }
+
+          loading.set(false);
+          if (e != null) {
+            var cause = Exceptions.unwrapCompletion(e);
+            errorOccurred.emit(new Exception("Failed to load report.", cause));
+            return;
+          }
+
+          updateReportItems(report.entries(), scope);
+          updateTotal(report.total());
+        },
+        uiExecutor);
+  }
+
+  public void prefetch(LocalDate from, LocalDate to) {
+    // Warms the service's query cache, so navigating to the period is served from memory.
+    activitiesService.getTimeReport(from, to).exceptionally(e -> null);
   }
 
   private void updateReportItems(List<TimeReport.Entry> entries, Scope scope) {
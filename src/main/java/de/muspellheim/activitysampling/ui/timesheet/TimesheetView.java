@@ -8,9 +8,11 @@ package de.muspellheim.activitysampling.ui.timesheet;
 import de.muspellheim.activitysampling.ui.shared.ErrorView;
 import de.muspellheim.activitysampling.ui.shared.PeriodView;
 import de.muspellheim.activitysampling.ui.shared.Registry;
+import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Pos;
+import javafx.scene.Cursor;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
@@ -29,7 +31,7 @@ public class TimesheetView {
   @FXML private Label totalLabel;
 
   private final TimesheetViewModel viewModel =
-      new TimesheetViewModel(Registry.getActivitiesService());
+      new TimesheetViewModel(Registry.getAsyncActivitiesService());
 
   public static TimesheetView newInstance(Stage owner) {
     String file = "/TimesheetView.fxml";
@@ -60,15 +62,27 @@ public class TimesheetView {
     hoursColumn.setCellFactory(TimesheetTableCell.newCellFactory(Pos.BASELINE_CENTER));
     hoursColumn.setCellValueFactory(TimesheetTableCell.newCellValueFactory(TimesheetItem::hours));
 
-    periodViewController.addPeriodChangedListener(
-        e -> viewModel.load(periodViewController.getFrom(), periodViewController.getTo()));
+    periodViewController.addPeriodChangedListener(e -> load());
     viewModel.addErrorOccurredListener(ErrorView::show);
     timesheetTable.setItems(viewModel.getTimesheetItems());
+    var cursor =
+        Bindings.when(viewModel.loadingProperty()).then(Cursor.WAIT).otherwise(Cursor.DEFAULT);
+    timesheetTable.cursorProperty().bind(cursor);
     totalLabel.textProperty().bind(viewModel.totalLabelTextProperty());
   }
 
   public void run() {
     stage.show();
+    load();
+  }
+
+  private void load() {
     viewModel.load(periodViewController.getFrom(), periodViewController.getTo());
+    periodViewController
+        .getPreviousPeriod()
+        .ifPresent(previous -> viewModel.prefetch(previous.from(), previous.to()));
+    periodViewController
+        .getNextPeriod()
+        .ifPresent(next -> viewModel.prefetch(next.from(), next.to()));
   }
 }
@@ -6,9 +6,11 @@
 package de.muspellheim.activitysampling.ui.timesheet;
 
 import de.muspellheim.activitysampling.application.ActivitiesService;
+import de.muspellheim.activitysampling.application.AsyncActivitiesService;
 import de.muspellheim.activitysampling.domain.Timesheet;
 import de.muspellheim.activitysampling.util.Durations;
 import de.muspellheim.activitysampling.util.EventEmitter;
+import de.muspellheim.activitysampling.util.Exceptions;
 import de.muspellheim.activitysampling.util.OutputTracker;
 import java.time.Duration;
 import java.time.LocalDate;
@@ -17,7 +19,12 @@ import java.time.format.FormatStyle;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.beans.value.ObservableStringValue;
 import javafx.collections.FXCollections;
@@ -25,8 +32,10 @@ import javafx.collections.ObservableList;
 
 public class TimesheetViewModel {
 
-  private final ActivitiesService activitiesService;
+  private final AsyncActivitiesService activitiesService;
+  private final Executor uiExecutor;
   private final DateTimeFormatter dateFormatter;
+  private CompletableFuture<Timesheet> pendingLoad = CompletableFuture.completedFuture(null);
 
   /* *************************************************************************
    *                                                                         *
@@ -34,12 +43,18 @@ public class TimesheetViewModel {
    *                                                                         *
    **************************************************************************/
 
-  TimesheetViewModel(ActivitiesService activitiesService) {
-    this(activitiesService, Locale.getDefault());
+  TimesheetViewModel(AsyncActivitiesService activitiesService) {
+    this(activitiesService, Platform::runLater, Locale.getDefault());
   }
 
   public TimesheetViewModel(ActivitiesService activitiesService, Locale locale) {
+    this(new AsyncActivitiesService(activitiesService, Runnable::run), Runnable::run, locale);
+  }
+
+  public TimesheetViewModel(
+      AsyncActivitiesService activitiesService, Executor uiExecutor, Locale locale) {
     this.activitiesService = activitiesService;
+    this.uiExecutor = uiExecutor;
     dateFormatter = DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM).withLocale(locale);
   }
 
@@ -73,19 +88,31 @@ public class TimesheetViewModel {
 
   private final ObservableList<TimesheetItem> timesheetItems = FXCollections.observableArrayList();
 
-  public ObservableList<TimesheetItem> getTimesheetItems() {
+  public final ObservableList<TimesheetItem> getTimesheetItems() {
     return timesheetItems;
   }
 
+  // --- loading
+
+  private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(false);
+
+  public ReadOnlyBooleanProperty loadingProperty() {
+    return loading.getReadOnlyProperty();
+  }
+
+  public final boolean isLoading() {
+    return loading.get();
+  }
+
   // --- totalLabelText
 
   private final ReadOnlyStringWrapper totalLabelText = new ReadOnlyStringWrapper("00:00");
 
-  ObservableStringValue totalLabelTextProperty() {
+  public ObservableStringValue totalLabelTextProperty() {
     return totalLabelText.getReadOnlyProperty();
   }
 
-  public String getTotalLabelText() {
+  public final String getTotalLabelText() {
     return totalLabelText.get();
   }
 
@@ -96,14 +123,33 @@ public class TimesheetViewModel {
    **************************************************************************/
 
   public void load(LocalDate from, LocalDate to) {
-    try {
-      var timesheet = activitiesService.getTimesheet(from, to);
-      updateTimesheetItems(timesheet.entries());
-      updateTotal(timesheet.total());
-    } catch (Exception e) {
-      e.printStackTrace();
-      errorOccurred.emit(new Exception("Failed to load timesheet.", e));
-    }
+    pendingLoad.cancel(false);
+    loading.set(true);
+    var request = activitiesService.getTimesheet(from, to);
+    pendingLoad = request;
+    request.whenCompleteAsync(
+        (timesheet, e) -> {
+          if (request != pendingLoad) {
+            return;
+          }
+
+          loading.set(false);
+          if (e != null) {
+            var cause = Exceptions.unwrapCompletion(e);
+            cause.printStackTrace();
+            errorOccurred.emit(new Exception("Failed to load timesheet.", cause));
+            return;
+          }
+
+          updateTimesheetItems(timesheet.entries());
+          updateTotal(timesheet.total());
+        },
+        uiExecutor);
+  }
+
+  public void prefetch(LocalDate from, LocalDate to) {
+    // Warms the service's query cache, so navigating to the period is served from memory.
+    activitiesService.getTimesheet(from, to).exceptionally(e -> null);
   }
 
   private void updateTimesheetItems(List<Timesheet.Entry> entries) {
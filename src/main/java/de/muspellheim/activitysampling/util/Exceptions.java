@@ -8,6 +8,7 @@ package de.muspellheim.activitysampling.util;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
 
 public class Exceptions {
   private Exceptions() {}
@@ -23,6 +24,14 @@ public class Exceptions {
     return List.copyOf(exceptions);
   }
 
+  public static Throwable unwrapCompletion(Throwable exception) {
+    if (exception instanceof CompletionException && exception.getCause() != null) {
+      return exception.getCause();
+    }
+
+    return exception;
+  }
+
   public static String summarizeMessages(Throwable exception) {
     var messages =
         collect(exception).stream().map(Throwable::getMessage).filter(Objects::nonNull).toList();
@@ -2,7 +2,8 @@ module de.muspellheim.activitysampling {
   requires org.apache.commons.csv;
   requires static lombok;
   requires java.desktop;
-  requires static java.sql;
+  requires java.sql;
+  requires com.h2database;
   requires javafx.controls;
   requires javafx.fxml;
   requires jdk.localedata;
@@ -0,0 +1,230 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.integration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.muspellheim.activitysampling.domain.Activities;
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.infrastructure.BinaryActivities;
+import de.muspellheim.activitysampling.infrastructure.CsvActivities;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BinaryActivitiesTests {
+  private static final Path DIRECTORY = Paths.get("build/activity-log-binary");
+  private static final Path LOG_FILE = Paths.get("build/binary-activities.csv");
+  private static final Path EXPORT_FILE = Paths.get("build/binary-activities-export.csv");
+
+  private BinaryActivities sut;
+
+  @BeforeEach
+  void init() throws IOException {
+    if (Files.exists(DIRECTORY)) {
+      try (var files = Files.walk(DIRECTORY)) {
+        for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+          Files.delete(file);
+        }
+      }
+    }
+    Files.deleteIfExists(LOG_FILE);
+    Files.deleteIfExists(EXPORT_FILE);
+    sut = new BinaryActivities(DIRECTORY);
+  }
+
+  @AfterEach
+  void close() throws IOException {
+    sut.close();
+  }
+
+  @Test
+  void findInPeriod_DirectoryDoesNotExist_ReturnsEmptyList() throws Exception {
+    var activities = sut.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+
+    assertEquals(List.of(), activities);
+    assertTrue(sut.isEmpty());
+  }
+
+  @Test
+  void findInPeriod_ReturnsActivitiesOnlyInPeriod() throws Exception {
+    sut.append(createActivity("2022-11-15T23:59:59", "c1", "n1"));
+    sut.append(createActivity("2022-11-16T00:00:00", "c2", "n2"));
+    sut.append(createActivity("2022-11-16T23:59:59", "c1", ""));
+    sut.append(createActivity("2022-11-17T00:00:00", "c2", "n4"));
+
+    var activities = sut.findInPeriod(LocalDate.parse("2022-11-16"), LocalDate.parse("2022-11-16"));
+
+    assertEquals(
+        List.of(
+            createActivity("2022-11-16T00:00:00", "c2", "n2"),
+            createActivity("2022-11-16T23:59:59", "c1", "")),
+        activities);
+  }
+
+  @Test
+  void findInPeriod_NotChronological_ReturnsActivitiesOnlyInPeriod() throws Exception {
+    sut.append(createActivity("2022-11-16T13:00:00", "c1", "n1"));
+    sut.append(createActivity("2022-11-17T13:00:00", "c1", "n2"));
+    sut.append(createActivity("2022-11-15T13:00:00", "c2", "n3"));
+    sut.append(createActivity("2022-11-16T14:00:00", "c2", "n4"));
+
+    var activities = sut.findInPeriod(LocalDate.parse("2022-11-16"), LocalDate.parse("2022-11-16"));
+
+    assertEquals(
+        List.of(
+            createActivity("2022-11-16T13:00:00", "c1", "n1"),
+            createActivity("2022-11-16T14:00:00", "c2", "n4")),
+        activities);
+  }
+
+  @Test
+  void findInPeriod_ActivityWithoutNotes_ReturnsActivityWithoutNotes() throws Exception {
+    sut.append(createActivity("2022-11-15T13:00:00", "c1", null));
+    sut.append(createActivity("2022-11-16T13:00:00", "c1", ""));
+    sut.append(createActivity("2022-11-17T13:00:00", "c1", "n1"));
+
+    try (var other = new BinaryActivities(DIRECTORY)) {
+      assertEquals(
+          List.of(
+              createActivity("2022-11-15T13:00:00", "c1", null),
+              createActivity("2022-11-16T13:00:00", "c1", ""),
+              createActivity("2022-11-17T13:00:00", "c1", "n1")),
+          other.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+    }
+  }
+
+  @Test
+  void findInPeriod_OtherInstance_ReadsSharedDictionary() throws Exception {
+    sut.append(createActivity("2022-11-15T13:00:00", "c1", "n1"));
+    sut.append(createActivity("2022-11-16T13:00:00", "c2", "n2"));
+
+    try (var other = new BinaryActivities(DIRECTORY)) {
+      assertEquals(
+          List.of(
+              createActivity("2022-11-15T13:00:00", "c1", "n1"),
+              createActivity("2022-11-16T13:00:00", "c2", "n2")),
+          other.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+    }
+  }
+
+  @Test
+  void append_DurationWithFractionOfSecond_ThrowsException() {
+    var activity =
+        Activity.builder()
+            .timestamp(LocalDateTime.parse("2022-11-16T13:00:00"))
+            .duration(Duration.ofMillis(1_500))
+            .client("c1")
+            .project("p1")
+            .task("t1")
+            .build();
+
+    assertThrows(IOException.class, () -> sut.append(activity));
+  }
+
+  @Test
+  void append_AfterInterruptedWrite_DiscardsIncompleteRow() throws Exception {
+    sut.append(createActivity("2022-11-15T13:00:00", "c1", "n1"));
+    sut.close();
+    Files.write(DIRECTORY.resolve("durations.col"), new byte[] {0, 0}, StandardOpenOption.APPEND);
+    Files.write(DIRECTORY.resolve("notes.heap"), new byte[] {'x'}, StandardOpenOption.APPEND);
+
+    sut.append(createActivity("2022-11-16T13:00:00", "c2", "n2"));
+
+    assertEquals(
+        List.of(
+            createActivity("2022-11-15T13:00:00", "c1", "n1"),
+            createActivity("2022-11-16T13:00:00", "c2", "n2")),
+        sut.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+  }
+
+  @Test
+  void importFrom_ExportTo_RoundTripsCsvLosslessly() throws Exception {
+    var log = new CsvActivities(LOG_FILE);
+    log.append(createActivity("2022-11-15T13:00:00", "c1", "with \"quotes\", commas"));
+    log.append(createActivity("2022-11-16T13:00:00", "Kunde ä", "multi\r\nline"));
+    log.append(createActivity("2022-11-14T13:00:00", "c1", ""));
+    log.close();
+
+    var imported = sut.importFrom(log);
+    var export = new CsvActivities(EXPORT_FILE);
+    var exported = sut.exportTo(export);
+    export.close();
+
+    assertEquals(3, imported);
+    assertEquals(3, exported);
+    assertArrayEquals(Files.readAllBytes(LOG_FILE), Files.readAllBytes(EXPORT_FILE));
+  }
+
+  @Test
+  void importFrom_PreviousImportInterrupted_ImportsAllActivities() throws Exception {
+    var log = new CsvActivities(LOG_FILE);
+    log.append(createActivity("2022-11-14T13:00:00", "c1", "n1"));
+    log.append(createActivity("2022-11-15T13:00:00", "c2", "n2"));
+    log.append(createActivity("2022-11-16T13:00:00", "c1", "n3"));
+    log.close();
+    var interruptedLog =
+        new Activities() {
+          @Override
+          public void append(Activity activity) {
+            throw new UnsupportedOperationException();
+          }
+
+          @Override
+          public List<Activity> findInPeriod(LocalDate from, LocalDate to) throws Exception {
+            return log.findInPeriod(from, to);
+          }
+
+          @Override
+          public Stream<Activity> streamInPeriod(LocalDate from, LocalDate to) throws Exception {
+            var activities = findInPeriod(from, to);
+            return IntStream.range(0, activities.size())
+                .mapToObj(
+                    i -> {
+                      if (i == 2) {
+                        throw new IllegalStateException("Import interrupted.");
+                      }
+                      return activities.get(i);
+                    });
+          }
+        };
+    assertThrows(IOException.class, () -> sut.importFrom(interruptedLog));
+    assertTrue(sut.isEmpty());
+
+    var count = sut.importFrom(log);
+
+    assertEquals(3, count);
+    assertEquals(
+        log.findInPeriod(LocalDate.MIN, LocalDate.MAX),
+        sut.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+  }
+
+  private static Activity createActivity(String timestamp, String client, String notes) {
+    return Activity.builder()
+        .timestamp(LocalDateTime.parse(timestamp))
+        .duration(Duration.ofMinutes(20))
+        .client(client)
+        .project("p1")
+        .task("t1")
+        .notes(notes)
+        .build();
+  }
+}
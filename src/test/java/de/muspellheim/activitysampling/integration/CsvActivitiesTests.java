@@ -6,17 +6,28 @@
 package de.muspellheim.activitysampling.integration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.ActivityTotal;
+import de.muspellheim.activitysampling.domain.Timesheet;
 import de.muspellheim.activitysampling.infrastructure.CsvActivities;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +42,11 @@ class CsvActivitiesTests {
     sut = new CsvActivities(FILE);
   }
 
+  @AfterEach
+  void close() throws IOException {
+    sut.close();
+  }
+
   @Test
   void findInPeriod_FileDoesNotExist_ReturnsEmptyList() throws Exception {
     var activities = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
@@ -60,6 +76,261 @@ class CsvActivitiesTests {
     assertEquals(List.of(createActivity2()), activities);
   }
 
+  @Test
+  void findInPeriod_PeriodAfterLastActivity_ReturnsEmptyList() throws Exception {
+    sut.append(createActivity1());
+    sut.append(createActivity2());
+
+    var activities = sut.findInPeriod(LocalDate.parse("2022-11-17"), LocalDate.parse("2022-11-30"));
+
+    assertEquals(List.of(), activities);
+  }
+
+  @Test
+  void findInPeriod_LogChangedByOtherProcess_ReturnsActivitiesInPeriod() throws Exception {
+    sut.append(createActivity1());
+    sut.append(createActivity2());
+    sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+
+    Files.writeString(FILE, "2022-11-17T13:44:00,PT5M,c3,p3,t3,n3\r\n", StandardOpenOption.APPEND);
+    var activities = sut.findInPeriod(LocalDate.parse("2022-11-16"), LocalDate.parse("2022-11-17"));
+
+    assertEquals(List.of(createActivity2(), createActivity3()), activities);
+  }
+
+  @Test
+  void findInPeriod_LogIsNotChronological_ReturnsActivitiesInPeriod() throws Exception {
+    sut.append(createActivity3());
+    sut.append(createActivity1());
+    sut.append(createActivity2());
+
+    var activities = sut.findInPeriod(LocalDate.parse("2022-11-16"), LocalDate.parse("2022-11-17"));
+
+    assertEquals(List.of(createActivity3(), createActivity2()), activities);
+  }
+
+  @Test
+  void findInPeriod_RepeatedValues_SharesStringInstances() throws Exception {
+    sut.append(createActivity(LocalDateTime.parse("2022-11-15T13:04:00")));
+    sut.append(createActivity(LocalDateTime.parse("2022-11-16T13:24:00")));
+
+    var activities = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+
+    assertSame(activities.get(0).client(), activities.get(1).client());
+    assertSame(activities.get(0).project(), activities.get(1).project());
+    assertSame(activities.get(0).task(), activities.get(1).task());
+  }
+
+  @Test
+  void findInPeriod_ParallelRead_ReturnsSameActivitiesAsSequentialRead() throws Exception {
+    var start = LocalDateTime.parse("2022-11-01T08:00:00");
+    var activities = new ArrayList<Activity>();
+    for (var i = 0; i < 40_000; i++) {
+      activities.add(
+          Activity.builder()
+              .timestamp(start.plusMinutes(i))
+              .duration(Duration.ofMinutes(1))
+              .client("c" + i % 3)
+              .project("p")
+              .task("t")
+              .notes("multi\r\n2022-11-15T13:00:00,PT5M,\"quoted\",\r\nline " + i)
+              .build());
+    }
+    sut.appendAll(activities);
+    var parallel = new CsvActivities(FILE, Duration.ZERO, CsvActivities.Durability.OS_BUFFER, 4);
+
+    var from = LocalDate.parse("2022-11-03");
+    var to = LocalDate.parse("2022-11-20");
+    assertEquals(
+        sut.findInPeriod(LocalDate.MIN, LocalDate.MAX),
+        parallel.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+    assertEquals(sut.findInPeriod(from, to), parallel.findInPeriod(from, to));
+  }
+
+  @Test
+  void findInPeriod_ParallelReadOfUnorderedLog_ReturnsActivitiesInFileOrder() throws Exception {
+    var start = LocalDateTime.parse("2022-11-01T08:00:00");
+    var activities = new ArrayList<Activity>();
+    for (var i = 0; i < 80_000; i++) {
+      activities.add(createActivity(start.plusMinutes(i % 2 == 0 ? i : -i)));
+    }
+    sut.appendAll(activities);
+    var parallel = new CsvActivities(FILE, Duration.ZERO, CsvActivities.Durability.OS_BUFFER, 4);
+
+    assertEquals(activities, parallel.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+  }
+
+  @Test
+  void findRecent_FileDoesNotExist_ReturnsEmptyList() throws Exception {
+    var activities = sut.findRecent(LocalDate.ofEpochDay(0), LocalDate.now());
+
+    assertEquals(List.of(), activities);
+  }
+
+  @Test
+  void findRecent_LogChangedByOtherProcess_ReturnsActivitiesInPeriod() throws Exception {
+    sut.append(createActivity1());
+    sut.append(createActivity2());
+    sut.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+    Files.writeString(
+        FILE,
+        "2022-11-17T11:00:00,PT5M,c,p,t,\"quoted\r\n2022-11-14T10:00:00,PT5M,c,p,t,n\"\r\n",
+        StandardOpenOption.APPEND);
+
+    var activities = sut.findRecent(LocalDate.parse("2022-11-16"), LocalDate.parse("2022-11-17"));
+
+    assertEquals(
+        List.of(
+            createActivity2(),
+            Activity.builder()
+                .timestamp(LocalDateTime.parse("2022-11-17T11:00:00"))
+                .duration(Duration.ofMinutes(5))
+                .client("c")
+                .project("p")
+                .task("t")
+                .notes("quoted\r\n2022-11-14T10:00:00,PT5M,c,p,t,n")
+                .build()),
+        activities);
+  }
+
+  @Test
+  void findRecent_TailIsNotChronological_ReturnsActivitiesInPeriod() throws Exception {
+    sut.append(createActivity1());
+    sut.append(createActivity3());
+    sut.append(createActivity2());
+
+    var activities = sut.findRecent(LocalDate.parse("2022-11-16"), LocalDate.parse("2022-11-17"));
+
+    assertEquals(List.of(createActivity3(), createActivity2()), activities);
+  }
+
+  @Test
+  void streamInPeriod_FileDoesNotExist_ReturnsEmptyStream() throws Exception {
+    try (var activities = sut.streamInPeriod(LocalDate.ofEpochDay(0), LocalDate.now())) {
+      assertEquals(0, activities.count());
+    }
+  }
+
+  @Test
+  void streamInPeriod_ReturnsActivitiesOnlyInPeriod() throws Exception {
+    sut.append(createActivity1());
+    sut.append(createActivity2());
+    sut.append(createActivity3());
+
+    try (var activities =
+        sut.streamInPeriod(LocalDate.parse("2022-11-16"), LocalDate.parse("2022-11-17"))) {
+      var timesheet = Timesheet.from(activities::iterator);
+
+      assertEquals(Duration.ofMinutes(10), timesheet.total());
+    }
+  }
+
+  @Test
+  void sumDurations_ReturnsTotalsInPeriod() throws Exception {
+    sut.append(createActivity1());
+    sut.append(createActivity2());
+    sut.append(createActivity3());
+
+    var totals =
+        sut.sumDurations(
+            LocalDate.parse("2022-11-16"),
+            LocalDate.parse("2022-11-17"),
+            Set.of(ActivityTotal.Dimension.DATE));
+
+    assertEquals(
+        List.of(
+            ActivityTotal.builder()
+                .date(LocalDate.parse("2022-11-16"))
+                .duration(Duration.ofMinutes(5))
+                .build(),
+            ActivityTotal.builder()
+                .date(LocalDate.parse("2022-11-17"))
+                .duration(Duration.ofMinutes(5))
+                .build()),
+        totals);
+  }
+
+  @Test
+  void append_ConcurrentAppends_CommitsAllActivities() throws Exception {
+    sut = new CsvActivities(FILE, Duration.ofMillis(2), CsvActivities.Durability.FSYNC);
+    var start = LocalDateTime.parse("2022-11-15T08:00:00");
+    var tasks = new ArrayList<Callable<Void>>();
+    for (var thread = 0; thread < 8; thread++) {
+      var offset = thread;
+      tasks.add(
+          () -> {
+            for (var i = 0; i < 100; i++) {
+              sut.append(createActivity(start.plusMinutes((i * 8L + offset) * 30)));
+            }
+            return null;
+          });
+    }
+
+    var executor = Executors.newFixedThreadPool(tasks.size());
+    try {
+      for (var future : executor.invokeAll(tasks)) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    var activities = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+    assertEquals(800, activities.size());
+    var day = start.toLocalDate().plusDays(3);
+    var activitiesOnDay =
+        activities.stream().filter(a -> a.timestamp().toLocalDate().equals(day)).toList();
+    assertEquals(activitiesOnDay, sut.findInPeriod(day, day));
+  }
+
+  @Test
+  void append_AfterClose_ReopensFile() throws Exception {
+    sut.append(createActivity1());
+    sut.close();
+
+    sut.append(createActivity2());
+
+    var activities = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+    assertEquals(List.of(createActivity1(), createActivity2()), activities);
+  }
+
+  @Test
+  void append_FileReplacedByOtherProcess_AppendsToNewFile() throws Exception {
+    sut.append(createActivity1());
+    sut.append(createActivity2());
+    var replacement = Paths.get("build/activities-replacement.csv");
+    Files.writeString(
+        replacement,
+        "Timestamp,Duration,Client,Project,Task,Notes\r\n2022-11-15T13:04:00,PT5M,c1,p1,t1,n1\r\n");
+    Files.move(replacement, FILE, StandardCopyOption.REPLACE_EXISTING);
+
+    sut.append(createActivity3());
+
+    var activities = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+    assertEquals(List.of(createActivity1(), createActivity3()), activities);
+  }
+
+  @Test
+  void changeToken_ActivityAppended_ChangesToken() throws Exception {
+    sut.append(createActivity1());
+    var token = sut.changeToken();
+
+    sut.append(createActivity2());
+
+    assertNotEquals(token, sut.changeToken());
+  }
+
+  private static Activity createActivity(LocalDateTime timestamp) {
+    return Activity.builder()
+        .timestamp(timestamp)
+        .duration(Duration.ofMinutes(5))
+        .client("c")
+        .project("p")
+        .task("t")
+        .notes("n")
+        .build();
+  }
+
   private static Activity createActivity1() {
     return Activity.builder()
         .timestamp(LocalDateTime.parse("2022-11-15T13:04:00"))
@@ -0,0 +1,166 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.muspellheim.activitysampling.domain.Activities;
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.Timesheet;
+import de.muspellheim.activitysampling.infrastructure.CsvActivities;
+import de.muspellheim.activitysampling.infrastructure.CsvActivityRollups;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CsvActivityRollupsTests {
+  private static final Path FILE = Paths.get("build/rollups-activities.csv");
+  private static final Path ROLLUPS_FILE = Paths.get("build/rollups-activities.csv.rollups");
+
+  private CsvActivities activities;
+  private CsvActivityRollups sut;
+
+  @BeforeEach
+  void init() throws IOException {
+    Files.deleteIfExists(FILE);
+    Files.deleteIfExists(ROLLUPS_FILE);
+    activities = new CsvActivities(FILE);
+    sut = new CsvActivityRollups(FILE, activities);
+  }
+
+  @Test
+  void findInPeriod_LogDoesNotExist_ReturnsEmptyList() throws Exception {
+    var entries = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+
+    assertEquals(List.of(), entries);
+  }
+
+  @Test
+  void findInPeriod_ActivitiesAdded_ReturnsTotalsPerDay() throws Exception {
+    log(createActivity("2022-11-15T13:04:00", "t1"));
+    log(createActivity("2022-11-16T13:24:00", "t2"));
+    log(createActivity("2022-11-16T13:44:00", "t1"));
+    log(createActivity("2022-11-16T14:04:00", "t2"));
+
+    var entries = sut.findInPeriod(LocalDate.parse("2022-11-16"), LocalDate.parse("2022-11-16"));
+
+    assertEquals(
+        List.of(
+            createEntry("2022-11-16", "t1", Duration.ofMinutes(5)),
+            createEntry("2022-11-16", "t2", Duration.ofMinutes(10))),
+        entries);
+  }
+
+  @Test
+  void findInPeriod_RollupsStored_DoesNotReadLog() throws Exception {
+    log(createActivity("2022-11-15T13:04:00", "t1"));
+    sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+    log(createActivity("2022-11-16T13:24:00", "t1"));
+    var sut = new CsvActivityRollups(FILE, new FailingActivities());
+
+    var entries = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+
+    assertEquals(
+        List.of(
+            createEntry("2022-11-15", "t1", Duration.ofMinutes(5)),
+            createEntry("2022-11-16", "t1", Duration.ofMinutes(5))),
+        entries);
+  }
+
+  @Test
+  void add_BatchAppended_AppliesAllRecordsWithoutRebuild() throws Exception {
+    log(createActivity("2022-11-15T13:04:00", "t1"));
+    sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+    var batch =
+        List.of(
+            createActivity("2022-11-15T13:24:00", "t2"),
+            createActivity("2022-11-16T13:44:00", "t1"),
+            createActivity("2022-11-16T14:04:00", "t1"));
+    activities.appendAll(batch);
+    for (var activity : batch) {
+      sut.add(activity);
+    }
+    var sut = new CsvActivityRollups(FILE, new FailingActivities());
+
+    var entries = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+
+    assertEquals(
+        List.of(
+            createEntry("2022-11-15", "t1", Duration.ofMinutes(5)),
+            createEntry("2022-11-15", "t2", Duration.ofMinutes(5)),
+            createEntry("2022-11-16", "t1", Duration.ofMinutes(10))),
+        entries);
+  }
+
+  @Test
+  void findInPeriod_LogChangedByOtherProcess_RebuildsRollups() throws Exception {
+    log(createActivity("2022-11-15T13:04:00", "t1"));
+    sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+    Files.writeString(FILE, "2022-11-15T13:24:00,PT5M,c,p,t1,n\r\n", StandardOpenOption.APPEND);
+
+    var entries = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+
+    assertEquals(List.of(createEntry("2022-11-15", "t1", Duration.ofMinutes(10))), entries);
+  }
+
+  @Test
+  void add_LogAppendedByOtherProcess_AppliesAllRecords() throws Exception {
+    log(createActivity("2022-11-15T13:04:00", "t1"));
+    sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+    Files.writeString(FILE, "2022-11-15T13:24:00,PT5M,c,p,t1,n\r\n", StandardOpenOption.APPEND);
+    log(createActivity("2022-11-15T13:44:00", "t1"));
+
+    var entries = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+
+    assertEquals(List.of(createEntry("2022-11-15", "t1", Duration.ofMinutes(15))), entries);
+  }
+
+  private void log(Activity activity) throws Exception {
+    activities.append(activity);
+    sut.add(activity);
+  }
+
+  private static Activity createActivity(String timestamp, String task) {
+    return Activity.builder()
+        .timestamp(LocalDateTime.parse(timestamp))
+        .duration(Duration.ofMinutes(5))
+        .client("c")
+        .project("p")
+        .task(task)
+        .notes("n")
+        .build();
+  }
+
+  private static Timesheet.Entry createEntry(String date, String task, Duration hours) {
+    return Timesheet.Entry.builder()
+        .date(LocalDate.parse(date))
+        .client("c")
+        .project("p")
+        .task(task)
+        .hours(hours)
+        .build();
+  }
+
+  private static class FailingActivities implements Activities {
+    @Override
+    public void append(Activity activity) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Activity> findInPeriod(LocalDate from, LocalDate to) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.ActivityTotal;
+import de.muspellheim.activitysampling.domain.Timesheet;
+import de.muspellheim.activitysampling.infrastructure.CsvActivities;
+import de.muspellheim.activitysampling.infrastructure.H2Activities;
+import de.muspellheim.activitysampling.infrastructure.H2ActivityRollups;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class H2ActivitiesTests {
+  private static final Path FILE = Paths.get("build/activities-h2");
+  private static final Path DATABASE_FILE = Paths.get("build/activities-h2.mv.db");
+  private static final Path LOG_FILE = Paths.get("build/activities-h2.csv");
+
+  private H2Activities sut;
+
+  @BeforeEach
+  void init() throws IOException {
+    Files.deleteIfExists(DATABASE_FILE);
+    Files.deleteIfExists(LOG_FILE);
+    sut = new H2Activities(FILE);
+  }
+
+  @AfterEach
+  void close() throws IOException {
+    sut.close();
+  }
+
+  @Test
+  void findInPeriod_DatabaseIsEmpty_ReturnsEmptyList() throws Exception {
+    var activities = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+
+    assertEquals(List.of(), activities);
+  }
+
+  @Test
+  void findInPeriod_ActivitiesAppended_ReturnsActivities() throws Exception {
+    sut.append(createActivity("2022-11-15T13:04:00", "t1"));
+    sut.append(createActivity("2022-11-16T13:24:00", "t2"));
+
+    var activities = sut.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+
+    assertEquals(
+        List.of(
+            createActivity("2022-11-15T13:04:00", "t1"),
+            createActivity("2022-11-16T13:24:00", "t2")),
+        activities);
+  }
+
+  @Test
+  void findInPeriod_ReturnsActivitiesOnlyInPeriod() throws Exception {
+    sut.append(createActivity("2022-11-15T23:59:59", "t1"));
+    sut.append(createActivity("2022-11-16T00:00:00", "t2"));
+    sut.append(createActivity("2022-11-16T23:59:59", "t3"));
+    sut.append(createActivity("2022-11-17T00:00:00", "t4"));
+
+    var activities = sut.findInPeriod(LocalDate.parse("2022-11-16"), LocalDate.parse("2022-11-16"));
+
+    assertEquals(
+        List.of(
+            createActivity("2022-11-16T00:00:00", "t2"),
+            createActivity("2022-11-16T23:59:59", "t3")),
+        activities);
+  }
+
+  @Test
+  void findInPeriod_Rollups_ReturnsTotalsPerDay() throws Exception {
+    sut.append(createActivity("2022-11-15T13:04:00", "t1"));
+    sut.append(createActivity("2022-11-16T13:24:00", "t2"));
+    sut.append(createActivity("2022-11-16T13:44:00", "t1"));
+    sut.append(createActivity("2022-11-16T14:04:00", "t2"));
+    var rollups = new H2ActivityRollups(sut);
+
+    var entries =
+        rollups.findInPeriod(LocalDate.parse("2022-11-16"), LocalDate.parse("2022-11-16"));
+
+    assertEquals(
+        List.of(
+            createEntry("2022-11-16", "t1", Duration.ofMinutes(5)),
+            createEntry("2022-11-16", "t2", Duration.ofMinutes(10))),
+        entries);
+  }
+
+  @Test
+  void sumDurations_ByTask_ReturnsTotalsInPeriod() throws Exception {
+    sut.append(createActivity("2022-11-15T13:04:00", "t1"));
+    sut.append(createActivity("2022-11-16T13:24:00", "t2"));
+    sut.append(createActivity("2022-11-16T13:44:00", "t1"));
+    sut.append(createActivity("2022-11-17T14:04:00", "t2"));
+
+    var totals =
+        sut.sumDurations(
+            LocalDate.parse("2022-11-16"),
+            LocalDate.parse("2022-11-17"),
+            Set.of(ActivityTotal.Dimension.TASK));
+
+    assertEquals(
+        List.of(
+            ActivityTotal.builder().task("t1").duration(Duration.ofMinutes(5)).build(),
+            ActivityTotal.builder().task("t2").duration(Duration.ofMinutes(10)).build()),
+        totals);
+  }
+
+  @Test
+  void sumDurations_WithoutDimensions_ReturnsGrandTotal() throws Exception {
+    sut.append(createActivity("2022-11-15T13:04:00", "t1"));
+    sut.append(createActivity("2022-11-16T13:24:00", "t2"));
+
+    var totals = sut.sumDurations(LocalDate.MIN, LocalDate.MAX, Set.of());
+
+    assertEquals(List.of(ActivityTotal.builder().duration(Duration.ofMinutes(10)).build()), totals);
+  }
+
+  @Test
+  void migrate_DatabaseIsEmpty_CopiesActivitiesFromLog() throws Exception {
+    var log = new CsvActivities(LOG_FILE);
+    log.append(createActivity("2022-11-15T13:04:00", "t1"));
+    log.append(createActivity("2022-11-16T13:24:00", "t2"));
+    log.close();
+
+    var count = sut.migrate(log);
+
+    assertEquals(2, count);
+    var expected = log.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+    assertEquals(expected, sut.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+  }
+
+  @Test
+  void migrate_DatabaseIsNotEmpty_DoesNothing() throws Exception {
+    var log = new CsvActivities(LOG_FILE);
+    log.append(createActivity("2022-11-15T13:04:00", "t1"));
+    log.close();
+    sut.append(createActivity("2022-11-16T13:24:00", "t2"));
+
+    var count = sut.migrate(log);
+
+    assertEquals(0, count);
+    assertEquals(
+        List.of(createActivity("2022-11-16T13:24:00", "t2")),
+        sut.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+  }
+
+  @Test
+  void changeToken_ActivityAppended_ChangesToken() throws Exception {
+    sut.append(createActivity("2022-11-15T13:04:00", "t1"));
+    var token = sut.changeToken();
+
+    sut.append(createActivity("2022-11-16T13:24:00", "t2"));
+
+    assertNotEquals(token, sut.changeToken());
+  }
+
+  private static Activity createActivity(String timestamp, String task) {
+    return Activity.builder()
+        .timestamp(LocalDateTime.parse(timestamp))
+        .duration(Duration.ofMinutes(5))
+        .client("c1")
+        .project("p1")
+        .task(task)
+        .notes("n1")
+        .build();
+  }
+
+  private static Timesheet.Entry createEntry(String date, String task, Duration hours) {
+    return Timesheet.Entry.builder()
+        .date(LocalDate.parse(date))
+        .client("c1")
+        .project("p1")
+        .task(task)
+        .hours(hours)
+        .build();
+  }
+}
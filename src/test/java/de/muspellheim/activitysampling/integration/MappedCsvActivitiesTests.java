@@ -0,0 +1,105 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.infrastructure.CsvActivities;
+import de.muspellheim.activitysampling.infrastructure.MappedCsvActivities;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MappedCsvActivitiesTests {
+  private static final Path FILE = Paths.get("build/mapped-activities.csv");
+
+  private MappedCsvActivities sut;
+
+  @BeforeEach
+  void init() throws IOException {
+    Files.deleteIfExists(FILE);
+    sut = new MappedCsvActivities(FILE);
+  }
+
+  @Test
+  void findInPeriod_FileDoesNotExist_ReturnsEmptyList() throws Exception {
+    var activities = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+
+    assertEquals(List.of(), activities);
+  }
+
+  @Test
+  void findInPeriod_FileExists_ReturnsEvents() throws Exception {
+    sut.append(createActivity("2022-11-15T13:04:00", "n1"));
+    sut.append(createActivity("2022-11-16T13:24:00", "n2"));
+    sut.append(createActivity("2022-11-17T13:44:00", "n3"));
+
+    var activities = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+
+    assertEquals(
+        List.of(
+            createActivity("2022-11-15T13:04:00", "n1"),
+            createActivity("2022-11-16T13:24:00", "n2"),
+            createActivity("2022-11-17T13:44:00", "n3")),
+        activities);
+  }
+
+  @Test
+  void findInPeriod_ReturnsActivitiesOnlyInPeriod() throws Exception {
+    sut.append(createActivity("2022-11-15T13:04:00", "n1"));
+    sut.append(createActivity("2022-11-16T13:24:00", "n2"));
+    sut.append(createActivity("2022-11-17T13:44:00", "n3"));
+
+    var activities = sut.findInPeriod(LocalDate.parse("2022-11-16"), LocalDate.parse("2022-11-16"));
+
+    assertEquals(List.of(createActivity("2022-11-16T13:24:00", "n2")), activities);
+  }
+
+  @Test
+  void findInPeriod_RepeatedValues_SharesStringInstances() throws Exception {
+    sut.append(createActivity("2022-11-15T13:04:00", "n1"));
+    sut.append(createActivity("2022-11-16T13:24:00", "n2"));
+
+    var activities = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+
+    assertSame(activities.get(0).client(), activities.get(1).client());
+    assertSame(activities.get(0).project(), activities.get(1).project());
+    assertSame(activities.get(0).task(), activities.get(1).task());
+  }
+
+  @Test
+  void findInPeriod_NotesNeedQuoting_ReturnsSameActivitiesAsCsvReader() throws Exception {
+    sut.append(createActivity("2022-11-15T13:04:00", ""));
+    sut.append(createActivity("2022-11-15T13:24:00", "comma, \"quote\" and\r\nline break"));
+    sut.append(createActivity("2022-11-16T13:44:00", "Grüße ✓"));
+
+    var activities = sut.findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+
+    var expected = new CsvActivities(FILE).findInPeriod(LocalDate.ofEpochDay(0), LocalDate.now());
+    assertEquals(expected, activities);
+    assertEquals("comma, \"quote\" and\r\nline break", activities.get(1).notes());
+  }
+
+  private static Activity createActivity(String timestamp, String notes) {
+    return Activity.builder()
+        .timestamp(LocalDateTime.parse(timestamp))
+        .duration(Duration.ofMinutes(20))
+        .client("c")
+        .project("p")
+        .task("t")
+        .notes(notes)
+        .build();
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.infrastructure.CsvActivities;
+import de.muspellheim.activitysampling.infrastructure.ResidentActivities;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResidentActivitiesTests {
+  private static final Path FILE = Paths.get("build/resident-activities.csv");
+
+  private CsvActivities log;
+  private ResidentActivities sut;
+
+  @BeforeEach
+  void init() throws IOException {
+    Files.deleteIfExists(FILE);
+    log = new CsvActivities(FILE);
+    sut = new ResidentActivities(log);
+  }
+
+  @AfterEach
+  void close() throws IOException {
+    log.close();
+  }
+
+  @Test
+  void findInPeriod_FileDoesNotExist_ReturnsEmptyList() throws Exception {
+    var activities = sut.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+
+    assertEquals(List.of(), activities);
+  }
+
+  @Test
+  void findInPeriod_ReturnsActivitiesOnlyInPeriod() throws Exception {
+    log.append(createActivity("2022-11-15T23:59:59", "t1"));
+    log.append(createActivity("2022-11-16T00:00:00", "t2"));
+    log.append(createActivity("2022-11-16T23:59:59", "t3"));
+    log.append(createActivity("2022-11-17T00:00:00", "t4"));
+
+    var activities = sut.findInPeriod(LocalDate.parse("2022-11-16"), LocalDate.parse("2022-11-16"));
+
+    assertEquals(
+        List.of(
+            createActivity("2022-11-16T00:00:00", "t2"),
+            createActivity("2022-11-16T23:59:59", "t3")),
+        activities);
+  }
+
+  @Test
+  void findInPeriod_LogIsNotChronological_ReturnsActivitiesSortedByTimestamp() throws Exception {
+    log.append(createActivity("2022-11-17T13:00:00", "t3"));
+    log.append(createActivity("2022-11-15T13:00:00", "t1"));
+    log.append(createActivity("2022-11-16T13:00:00", "t2"));
+
+    var activities = sut.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+
+    assertEquals(
+        List.of(
+            createActivity("2022-11-15T13:00:00", "t1"),
+            createActivity("2022-11-16T13:00:00", "t2"),
+            createActivity("2022-11-17T13:00:00", "t3")),
+        activities);
+  }
+
+  @Test
+  void append_WritesThroughToLog() throws Exception {
+    sut.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+
+    sut.append(createActivity("2022-11-16T13:00:00", "t2"));
+    sut.append(createActivity("2022-11-15T13:00:00", "t1"));
+
+    assertEquals(
+        List.of(
+            createActivity("2022-11-16T13:00:00", "t2"),
+            createActivity("2022-11-15T13:00:00", "t1")),
+        log.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+    assertEquals(
+        List.of(
+            createActivity("2022-11-15T13:00:00", "t1"),
+            createActivity("2022-11-16T13:00:00", "t2")),
+        sut.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+  }
+
+  @Test
+  void append_FractionOfSecond_KeepsSecondsLikeLog() throws Exception {
+    sut.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+
+    sut.append(createActivity("2022-11-16T13:00:00.123", "t1"));
+
+    assertEquals(
+        log.findInPeriod(LocalDate.MIN, LocalDate.MAX),
+        sut.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+  }
+
+  @Test
+  void append_ActivitiesWithDistinctNotes_KeepsNotesWithTheirActivities() throws Exception {
+    sut.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+
+    sut.append(createActivity("2022-11-16T13:00:00", "t2", "Second, with \"quotes\""));
+    sut.append(createActivity("2022-11-15T13:00:00", "t1", "Erste Notiz äöü"));
+    sut.append(createActivity("2022-11-17T13:00:00", "t3", ""));
+
+    assertEquals(
+        List.of(
+            createActivity("2022-11-15T13:00:00", "t1", "Erste Notiz äöü"),
+            createActivity("2022-11-16T13:00:00", "t2", "Second, with \"quotes\""),
+            createActivity("2022-11-17T13:00:00", "t3", "")),
+        sut.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+  }
+
+  @Test
+  void findInPeriod_LogChangedByOtherProcess_ReloadsLog() throws Exception {
+    sut.append(createActivity("2022-11-15T13:00:00", "t1"));
+    sut.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+
+    Files.writeString(FILE, "2022-11-16T13:00:00,PT5M,c1,p1,t2,n1\r\n", StandardOpenOption.APPEND);
+
+    assertEquals(
+        List.of(
+            createActivity("2022-11-15T13:00:00", "t1"),
+            createActivity("2022-11-16T13:00:00", "t2")),
+        sut.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+  }
+
+  private static Activity createActivity(String timestamp, String task) {
+    return createActivity(timestamp, task, "n1");
+  }
+
+  private static Activity createActivity(String timestamp, String task, String notes) {
+    return Activity.builder()
+        .timestamp(LocalDateTime.parse(timestamp))
+        .duration(Duration.ofMinutes(5))
+        .client("c1")
+        .project("p1")
+        .task(task)
+        .notes(notes)
+        .build();
+  }
+}
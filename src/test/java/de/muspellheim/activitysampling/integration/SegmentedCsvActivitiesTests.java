@@ -0,0 +1,227 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.muspellheim.activitysampling.domain.Activities;
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.infrastructure.CsvActivities;
+import de.muspellheim.activitysampling.infrastructure.SegmentedCsvActivities;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SegmentedCsvActivitiesTests {
+  private static final Path DIRECTORY = Paths.get("build/activity-log-segments");
+  private static final Path LOG_FILE = Paths.get("build/segmented-activities.csv");
+
+  private SegmentedCsvActivities sut;
+
+  @BeforeEach
+  void init() throws IOException {
+    if (Files.exists(DIRECTORY)) {
+      try (var files = Files.walk(DIRECTORY)) {
+        for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+          Files.delete(file);
+        }
+      }
+    }
+    Files.deleteIfExists(LOG_FILE);
+    sut = new SegmentedCsvActivities(DIRECTORY);
+  }
+
+  @AfterEach
+  void close() throws IOException {
+    sut.close();
+  }
+
+  @Test
+  void findInPeriod_NoSegments_ReturnsEmptyList() throws Exception {
+    var activities = sut.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+
+    assertEquals(List.of(), activities);
+  }
+
+  @Test
+  void append_ActivitiesInDifferentMonths_WritesOneSegmentPerMonth() throws Exception {
+    sut.append(createActivity("2022-10-31T13:00:00"));
+    sut.append(createActivity("2022-11-01T13:00:00"));
+    sut.append(createActivity("2022-11-15T13:00:00"));
+
+    assertTrue(Files.exists(DIRECTORY.resolve("activity-log-2022-10.csv")));
+    assertTrue(Files.exists(DIRECTORY.resolve("activity-log-2022-11.csv")));
+    assertEquals(
+        List.of("2022-10", "2022-11"), Files.readAllLines(DIRECTORY.resolve("segments.manifest")));
+  }
+
+  @Test
+  void findInPeriod_ReturnsActivitiesOnlyInPeriod() throws Exception {
+    sut.append(createActivity("2022-10-31T13:00:00"));
+    sut.append(createActivity("2022-11-01T13:00:00"));
+    sut.append(createActivity("2022-12-01T13:00:00"));
+
+    var activities = sut.findInPeriod(LocalDate.parse("2022-10-31"), LocalDate.parse("2022-11-30"));
+
+    assertEquals(
+        List.of(createActivity("2022-10-31T13:00:00"), createActivity("2022-11-01T13:00:00")),
+        activities);
+  }
+
+  @Test
+  void findInPeriod_SegmentOutsidePeriod_DoesNotReadSegment() throws Exception {
+    sut.append(createActivity("2022-10-31T13:00:00"));
+    sut.append(createActivity("2022-11-01T13:00:00"));
+    Files.writeString(DIRECTORY.resolve("activity-log-2022-10.csv"), "not a csv log");
+
+    var activities = sut.findInPeriod(LocalDate.parse("2022-11-01"), LocalDate.parse("2022-11-30"));
+
+    assertEquals(List.of(createActivity("2022-11-01T13:00:00")), activities);
+  }
+
+  @Test
+  void findInPeriod_SegmentAddedByOtherInstance_ReturnsActivitiesOfNewSegment() throws Exception {
+    sut.append(createActivity("2022-10-31T13:00:00"));
+    try (var other = new SegmentedCsvActivities(DIRECTORY)) {
+      other.append(createActivity("2022-11-01T13:00:00"));
+    }
+
+    var activities = sut.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+
+    assertEquals(
+        List.of(createActivity("2022-10-31T13:00:00"), createActivity("2022-11-01T13:00:00")),
+        activities);
+  }
+
+  @Test
+  void streamInPeriod_ReturnsActivitiesOfAllOverlappingSegments() throws Exception {
+    sut.append(createActivity("2022-10-31T13:00:00"));
+    sut.append(createActivity("2022-11-01T13:00:00"));
+
+    try (var activities = sut.streamInPeriod(LocalDate.MIN, LocalDate.MAX)) {
+      assertEquals(2, activities.count());
+    }
+  }
+
+  @Test
+  void migrate_MonolithicLog_SplitsLogIntoSegments() throws Exception {
+    var log = new CsvActivities(LOG_FILE);
+    log.append(createActivity("2022-10-31T13:00:00"));
+    log.append(createActivity("2022-11-01T13:00:00"));
+    log.append(createActivity("2022-11-15T13:00:00"));
+    log.close();
+
+    var count = sut.migrate(log);
+
+    assertEquals(3, count);
+    var expected = log.findInPeriod(LocalDate.MIN, LocalDate.MAX);
+    assertEquals(expected, sut.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+    assertEquals(
+        List.of("2022-10", "2022-11"), Files.readAllLines(DIRECTORY.resolve("segments.manifest")));
+  }
+
+  @Test
+  void migrate_SegmentsExist_DoesNothing() throws Exception {
+    sut.append(createActivity("2022-12-01T13:00:00"));
+    var log = new CsvActivities(LOG_FILE);
+    log.append(createActivity("2022-10-31T13:00:00"));
+    log.close();
+
+    var count = sut.migrate(log);
+
+    assertEquals(0, count);
+    assertEquals(
+        List.of(createActivity("2022-12-01T13:00:00")),
+        sut.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+  }
+
+  @Test
+  void migrate_DirectoryWithoutSegmentsExists_MigratesAllActivities() throws Exception {
+    Files.createDirectories(DIRECTORY);
+    Files.createFile(DIRECTORY.resolve("segments.manifest"));
+    Files.createFile(DIRECTORY.resolve("segments.lock"));
+    var log = new CsvActivities(LOG_FILE);
+    log.append(createActivity("2022-10-31T13:00:00"));
+    log.append(createActivity("2022-11-01T13:00:00"));
+    log.close();
+
+    var count = sut.migrate(log);
+
+    assertEquals(2, count);
+    assertEquals(
+        log.findInPeriod(LocalDate.MIN, LocalDate.MAX),
+        sut.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+    assertEquals(
+        List.of("2022-10", "2022-11"), Files.readAllLines(DIRECTORY.resolve("segments.manifest")));
+  }
+
+  @Test
+  void migrate_PreviousMigrationInterrupted_MigratesAllActivities() throws Exception {
+    var log = new CsvActivities(LOG_FILE);
+    log.append(createActivity("2022-10-31T13:00:00"));
+    log.append(createActivity("2022-11-01T13:00:00"));
+    log.append(createActivity("2022-11-15T13:00:00"));
+    log.close();
+    var interruptedLog =
+        new Activities() {
+          @Override
+          public void append(Activity activity) {
+            throw new UnsupportedOperationException();
+          }
+
+          @Override
+          public List<Activity> findInPeriod(LocalDate from, LocalDate to) throws Exception {
+            return log.findInPeriod(from, to);
+          }
+
+          @Override
+          public Stream<Activity> streamInPeriod(LocalDate from, LocalDate to) throws Exception {
+            var activities = findInPeriod(from, to);
+            return IntStream.range(0, activities.size())
+                .mapToObj(
+                    i -> {
+                      if (i == 2) {
+                        throw new IllegalStateException("Migration interrupted.");
+                      }
+                      return activities.get(i);
+                    });
+          }
+        };
+    assertThrows(IOException.class, () -> sut.migrate(interruptedLog));
+    assertEquals(List.of(), sut.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+
+    var count = sut.migrate(log);
+
+    assertEquals(3, count);
+    assertEquals(
+        log.findInPeriod(LocalDate.MIN, LocalDate.MAX),
+        sut.findInPeriod(LocalDate.MIN, LocalDate.MAX));
+  }
+
+  private static Activity createActivity(String timestamp) {
+    return Activity.builder()
+        .timestamp(LocalDateTime.parse(timestamp))
+        .duration(Duration.ofMinutes(20))
+        .client("c1")
+        .project("p1")
+        .task("t1")
+        .notes("n1")
+        .build();
+  }
+}
@@ -6,10 +6,12 @@
 package de.muspellheim.activitysampling.unit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import de.muspellheim.activitysampling.application.ActivitiesService;
 import de.muspellheim.activitysampling.application.ActivitiesServiceImpl;
+import de.muspellheim.activitysampling.application.CacheStatistics;
 import de.muspellheim.activitysampling.domain.Activity;
 import de.muspellheim.activitysampling.domain.RecentActivities;
 import de.muspellheim.activitysampling.domain.TimeReport;
@@ -166,6 +168,102 @@ class ActivitiesServiceTests {
     assertThrows(IllegalStateException.class, () -> sut.getTimeReport(now, now));
   }
 
+  @Test
+  void getTimesheet_SamePeriodTwice_ReturnsCachedTimesheet() {
+    var sut = new ActivitiesServiceImpl(activitiesRepository);
+    var today = LocalDate.now();
+    activitiesRepository.add(newActivity(today.atStartOfDay()));
+
+    var timesheet1 = sut.getTimesheet(today, today);
+    var timesheet2 = sut.getTimesheet(today, today);
+
+    assertSame(timesheet1, timesheet2);
+    assertEquals(new CacheStatistics(1, 1), sut.getCacheStatistics());
+  }
+
+  @Test
+  void getTimesheet_ActivityLogged_ReadsActivitiesAgain() {
+    var sut = new ActivitiesServiceImpl(activitiesRepository);
+    var today = LocalDate.now();
+    sut.getTimesheet(today, today);
+
+    sut.logActivity(newActivity(today.atStartOfDay()));
+    var timesheet = sut.getTimesheet(today, today);
+
+    assertEquals(Duration.ofMinutes(30), timesheet.total());
+    assertEquals(new CacheStatistics(0, 2), sut.getCacheStatistics());
+  }
+
+  @Test
+  void getTimeReport_LogChangedByOtherProcess_ReadsActivitiesAgain() {
+    var sut = new ActivitiesServiceImpl(activitiesRepository);
+    var today = LocalDate.now();
+    sut.getTimeReport(today, today);
+
+    activitiesRepository.add(newActivity(today.atStartOfDay()));
+    var report = sut.getTimeReport(today, today);
+
+    assertEquals(Duration.ofMinutes(30), report.total());
+    assertEquals(new CacheStatistics(0, 2), sut.getCacheStatistics());
+  }
+
+  @Test
+  void logActivity_WithRollups_AddsActivityToRollups() {
+    var rollups = new FakeActivityRollups();
+    var sut = new ActivitiesServiceImpl(activitiesRepository, rollups);
+    var activity = newActivity(LocalDateTime.now());
+
+    sut.logActivity(activity);
+
+    assertEquals(List.of(activity), activitiesRepository);
+    assertEquals(List.of(activity), rollups.getActivities());
+  }
+
+  @Test
+  void getTimesheet_WithRollups_ReadsRollups() {
+    var rollups = new FakeActivityRollups();
+    var sut = new ActivitiesServiceImpl(activitiesRepository, rollups);
+    var now = LocalDateTime.now();
+    rollups.add(newActivity(now));
+    rollups.add(newActivity(now));
+
+    var timesheet = sut.getTimesheet(now.toLocalDate(), now.toLocalDate());
+
+    assertEquals(
+        new Timesheet(
+            List.of(
+                Timesheet.Entry.builder()
+                    .date(now.toLocalDate())
+                    .client("client")
+                    .project("project")
+                    .task("task")
+                    .hours(Duration.ofMinutes(60))
+                    .build())),
+        timesheet);
+  }
+
+  @Test
+  void getReport_WithRollups_ReadsRollups() {
+    var rollups = new FakeActivityRollups();
+    var sut = new ActivitiesServiceImpl(activitiesRepository, rollups);
+    var now = LocalDateTime.now();
+    rollups.add(newActivity(now.minusDays(1)));
+    rollups.add(newActivity(now));
+
+    var report = sut.getTimeReport(now.toLocalDate().minusDays(1), now.toLocalDate());
+
+    assertEquals(
+        new TimeReport(
+            List.of(
+                TimeReport.Entry.builder()
+                    .client("client")
+                    .project("project")
+                    .task("task")
+                    .hours(Duration.ofMinutes(60))
+                    .build())),
+        report);
+  }
+
   private static Activity newActivity(LocalDateTime timestamp) {
     return Activity.builder()
         .timestamp(timestamp)
@@ -20,9 +20,11 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
+import javafx.collections.ListChangeListener;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -162,6 +164,83 @@ class ActivitySamplingViewModelTests {
     assertForm(true, "ACME Ltd.", "Foobar", "Task #1", "Lorem ipsum", false);
   }
 
+  @Test
+  void logActivity_AfterLoad_InsertsActivityWithSingleListChange() {
+    activitiesService.initRecentActivitiesResponses(
+        ConfigurableResponses.sequence(
+            RecentActivities.from(
+                LocalDate.of(2022, 11, 16),
+                List.of(
+                    newActivity(LocalDateTime.of(2022, 11, 16, 16, 16), Duration.ofMinutes(5)),
+                    newActivity(LocalDateTime.of(2022, 11, 15, 15, 15), Duration.ofMinutes(10))))));
+    activitiesService.initLogActivityResponses(ConfigurableResponses.always(true));
+    sut.load();
+    var changes = new ArrayList<Integer>();
+    sut.getRecentActivities()
+        .addListener(
+            (ListChangeListener<ActivityItem>)
+                c -> {
+                  while (c.next()) {
+                    changes.add(c.getAddedSize());
+                  }
+                });
+
+    sut.setClientText("ACME Ltd.");
+    sut.setProjectText("Foobar");
+    sut.setTaskText("Task #1");
+    sut.setNotesText("Lorem ipsum");
+    sut.logActivity();
+
+    assertNoError();
+    assertEquals(List.of(1), changes);
+    assertRecentActivities(
+        List.of(
+            newActivityHeader("Mittwoch, 16. November 2022"),
+            newActivityItem("18:17 - Foobar (ACME Ltd.) Task #1"),
+            newActivityItem("16:16 - Foobar (ACME Ltd.) Task #1"),
+            newActivityHeader("Dienstag, 15. November 2022"),
+            newActivityItem("15:15 - Foobar (ACME Ltd.) Task #1")));
+    assertTimeSummary("00:25", "00:10", "00:35", "00:35");
+  }
+
+  @Test
+  void logActivity_FirstActivityToday_InsertsDayHeaderWithSingleListChange() {
+    activitiesService.initRecentActivitiesResponses(
+        ConfigurableResponses.sequence(
+            RecentActivities.from(
+                LocalDate.of(2022, 11, 16),
+                List.of(
+                    newActivity(
+                        LocalDateTime.of(2022, 11, 15, 15, 15), Duration.ofMinutes(10))))));
+    activitiesService.initLogActivityResponses(ConfigurableResponses.always(true));
+    sut.load();
+    var changes = new ArrayList<Integer>();
+    sut.getRecentActivities()
+        .addListener(
+            (ListChangeListener<ActivityItem>)
+                c -> {
+                  while (c.next()) {
+                    changes.add(c.getAddedSize());
+                  }
+                });
+
+    sut.setClientText("ACME Ltd.");
+    sut.setProjectText("Foobar");
+    sut.setTaskText("Task #1");
+    sut.setNotesText("Lorem ipsum");
+    sut.logActivity();
+
+    assertNoError();
+    assertEquals(List.of(2), changes);
+    assertRecentActivities(
+        List.of(
+            newActivityHeader("Mittwoch, 16. November 2022"),
+            newActivityItem("18:17 - Foobar (ACME Ltd.) Task #1"),
+            newActivityHeader("Dienstag, 15. November 2022"),
+            newActivityItem("15:15 - Foobar (ACME Ltd.) Task #1")));
+    assertTimeSummary("00:20", "00:10", "00:30", "00:30");
+  }
+
   @Test
   void logActivity_Failed_DoesNotLogActivityAndNotifiesErrorOccurred() {
     activitiesService.initRecentActivitiesResponses(
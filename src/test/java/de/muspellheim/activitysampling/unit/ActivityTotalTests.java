@@ -0,0 +1,91 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.ActivityTotal;
+import de.muspellheim.activitysampling.domain.ActivityTotal.Dimension;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ActivityTotalTests {
+  @Test
+  void sum_ByClientAndProject_SumsDurationsPerGroup() {
+    var activities =
+        List.of(
+            newActivity("2022-11-16T13:00:00", "c2", "p1", 20),
+            newActivity("2022-11-16T13:20:00", "c1", "p2", 20),
+            newActivity("2022-11-17T13:00:00", "c2", "p1", 10));
+
+    var totals = ActivityTotal.sum(activities, Set.of(Dimension.CLIENT, Dimension.PROJECT));
+
+    assertEquals(
+        List.of(
+            ActivityTotal.builder().client("c1").project("p2").duration(minutes(20)).build(),
+            ActivityTotal.builder().client("c2").project("p1").duration(minutes(30)).build()),
+        totals);
+  }
+
+  @Test
+  void sum_ByDate_SortsDatesAscending() {
+    var activities =
+        List.of(
+            newActivity("2022-11-17T13:00:00", "c1", "p1", 20),
+            newActivity("2022-11-16T13:00:00", "c1", "p1", 20));
+
+    var totals = ActivityTotal.sum(activities, Set.of(Dimension.DATE));
+
+    assertEquals(
+        List.of(
+            ActivityTotal.builder().date(date("2022-11-16")).duration(minutes(20)).build(),
+            ActivityTotal.builder().date(date("2022-11-17")).duration(minutes(20)).build()),
+        totals);
+  }
+
+  @Test
+  void sum_WithoutDimensions_ReturnsGrandTotal() {
+    var activities =
+        List.of(
+            newActivity("2022-11-16T13:00:00", "c1", "p1", 20),
+            newActivity("2022-11-17T13:00:00", "c2", "p2", 5));
+
+    var totals = ActivityTotal.sum(activities, Set.of());
+
+    assertEquals(List.of(ActivityTotal.builder().duration(minutes(25)).build()), totals);
+  }
+
+  @Test
+  void sum_NoActivities_ReturnsEmptyList() {
+    var totals = ActivityTotal.sum(List.of(), ActivityTotal.ALL_DIMENSIONS);
+
+    assertEquals(List.of(), totals);
+  }
+
+  private static Activity newActivity(
+      String timestamp, String client, String project, int minutes) {
+    return Activity.builder()
+        .timestamp(LocalDateTime.parse(timestamp))
+        .duration(minutes(minutes))
+        .client(client)
+        .project(project)
+        .task("t1")
+        .build();
+  }
+
+  private static LocalDate date(String date) {
+    return LocalDate.parse(date);
+  }
+
+  private static Duration minutes(int minutes) {
+    return Duration.ofMinutes(minutes);
+  }
+}
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import de.muspellheim.activitysampling.util.Exceptions;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import org.junit.jupiter.api.Test;
 
 class ExceptionsTests {
@@ -32,4 +33,20 @@ class ExceptionsTests {
 
     assertEquals("e1 e2 e3", result);
   }
+
+  @Test
+  void unwrapCompletion_CompletionException_ReturnsCause() {
+    var cause = new IllegalStateException("e2");
+    var result = Exceptions.unwrapCompletion(new CompletionException("e1", cause));
+
+    assertEquals(cause, result);
+  }
+
+  @Test
+  void unwrapCompletion_OtherException_ReturnsException() {
+    var exception = new IllegalStateException("e1", new IOException("e2"));
+    var result = Exceptions.unwrapCompletion(exception);
+
+    assertEquals(exception, result);
+  }
 }
@@ -26,4 +26,9 @@ class FakeActivities extends ArrayList<Activity> implements Activities {
   public void append(Activity activity) throws Exception {
     add(activity);
   }
+
+  @Override
+  public Object changeToken() {
+    return modCount;
+  }
 }
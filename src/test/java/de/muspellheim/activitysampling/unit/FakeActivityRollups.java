@@ -0,0 +1,37 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.unit;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.ActivityRollups;
+import de.muspellheim.activitysampling.domain.Timesheet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+class FakeActivityRollups implements ActivityRollups {
+  private final List<Activity> activities = new ArrayList<>();
+
+  @Override
+  public void add(Activity activity) {
+    activities.add(activity);
+  }
+
+  @Override
+  public List<Timesheet.Entry> findInPeriod(LocalDate from, LocalDate to) throws Exception {
+    var activitiesInPeriod =
+        activities.stream().filter(a -> isBetween(a.timestamp().toLocalDate(), from, to)).toList();
+    return Timesheet.from(activitiesInPeriod).entries();
+  }
+
+  List<Activity> getActivities() {
+    return List.copyOf(activities);
+  }
+
+  private static boolean isBetween(LocalDate date, LocalDate from, LocalDate to) {
+    return !date.isBefore(from) && !date.isAfter(to);
+  }
+}
@@ -14,7 +14,10 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -218,6 +221,71 @@ class PeriodViewModelTests {
     assertLabels("This Month: ", "01.05.2023 - 31.05.2023");
   }
 
+  @Test
+  void getPreviousPeriod_PeriodIsWeek_ReturnsLastWeek() {
+    var period = sut.getPreviousPeriod();
+
+    assertEquals(
+        Optional.of(new PeriodViewModel.Range(LocalDate.of(2023, 4, 3), LocalDate.of(2023, 4, 9))),
+        period);
+    assertValues(LocalDate.of(2023, 4, 10), LocalDate.of(2023, 4, 16), ChronoUnit.WEEKS);
+  }
+
+  @Test
+  void getNextPeriod_PeriodIsMonth_ReturnsNextMonth() {
+    sut.setPeriodOfChoiceValue(ChronoUnit.MONTHS);
+
+    var period = sut.getNextPeriod();
+
+    assertEquals(
+        Optional.of(
+            new PeriodViewModel.Range(LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 31))),
+        period);
+  }
+
+  @Test
+  void getNextPeriod_PeriodIsYear_ReturnsNoPeriod() {
+    sut.setPeriodOfChoiceValue(ChronoUnit.YEARS);
+
+    var period = sut.getNextPeriod();
+
+    assertEquals(Optional.empty(), period);
+  }
+
+  @Test
+  void back_ClickedRapidly_NotifiesPeriodChangedOnce() {
+    var navigationTasks = new ArrayList<Runnable>();
+    var sut = newDebouncedViewModel(navigationTasks);
+    var periodChanged = new ArrayList<LocalDate>();
+    sut.addPeriodChangedListener(e -> periodChanged.add(sut.getFrom()));
+
+    sut.back();
+    sut.back();
+    sut.back();
+    navigationTasks.forEach(Runnable::run);
+
+    assertEquals(List.of(LocalDate.of(2023, 3, 20)), periodChanged);
+  }
+
+  @Test
+  void setPeriodOfChoiceValue_NavigationPending_NotifiesPeriodChangedOnlyForChoice() {
+    var navigationTasks = new ArrayList<Runnable>();
+    var sut = newDebouncedViewModel(navigationTasks);
+    var periodChanged = new ArrayList<LocalDate>();
+    sut.addPeriodChangedListener(e -> periodChanged.add(sut.getFrom()));
+
+    sut.forward();
+    sut.setPeriodOfChoiceValue(ChronoUnit.MONTHS);
+    navigationTasks.forEach(Runnable::run);
+
+    assertEquals(List.of(LocalDate.of(2023, 4, 1)), periodChanged);
+  }
+
+  private static PeriodViewModel newDebouncedViewModel(List<Runnable> navigationTasks) {
+    var clock = Clock.fixed(Instant.parse("2023-04-12T12:00:00Z"), ZoneId.systemDefault());
+    return new PeriodViewModel(Locale.GERMANY, clock, navigationTasks::add);
+  }
+
   private void assertValues(LocalDate from, LocalDate to, ChronoUnit period) {
     assertEquals(from, sut.getFrom());
     assertEquals(to, sut.getTo());
@@ -0,0 +1,74 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.muspellheim.activitysampling.domain.Activity;
+import de.muspellheim.activitysampling.domain.RecentActivities;
+import de.muspellheim.activitysampling.domain.WorkingDay;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RecentActivitiesTests {
+  @Test
+  void from_ActivitiesBeforeWindow_DropsTheirWorkingDays() {
+    var today = LocalDate.of(2022, 11, 16);
+    var first = newActivity(today.minusDays(31), LocalTime.of(12, 0));
+    var outside = newActivity(today.minusDays(32), LocalTime.of(12, 0));
+
+    var activities = RecentActivities.from(today, List.of(first, outside));
+
+    assertEquals(
+        List.of(new WorkingDay(today.minusDays(31), List.of(first))), activities.workingDays());
+  }
+
+  @Test
+  void plus_WindowMovedPastOldestDay_DropsOldestDay() {
+    var yesterday = LocalDate.of(2022, 11, 15);
+    var oldest = newActivity(yesterday.minusDays(31), LocalTime.of(12, 0));
+    var recent = newActivity(yesterday, LocalTime.of(12, 0));
+    var activities = RecentActivities.from(yesterday, List.of(oldest, recent));
+    var today = yesterday.plusDays(1);
+    var activity = newActivity(today, LocalTime.of(9, 0));
+
+    activities = activities.plus(today, activity);
+
+    assertEquals(
+        List.of(
+            new WorkingDay(today, List.of(activity)), new WorkingDay(yesterday, List.of(recent))),
+        activities.workingDays());
+  }
+
+  @Test
+  void plus_ActivityOnExistingDay_InsertsActivityByTimeDescending() {
+    var today = LocalDate.of(2022, 11, 16);
+    var morning = newActivity(today, LocalTime.of(9, 0));
+    var evening = newActivity(today, LocalTime.of(18, 0));
+    var activities = RecentActivities.from(today, List.of(morning, evening));
+    var noon = newActivity(today, LocalTime.of(12, 0));
+
+    activities = activities.plus(today, noon);
+
+    assertEquals(
+        List.of(new WorkingDay(today, List.of(evening, noon, morning))),
+        activities.workingDays());
+  }
+
+  private static Activity newActivity(LocalDate date, LocalTime time) {
+    return Activity.builder()
+        .timestamp(LocalDateTime.of(date, time))
+        .duration(Duration.ofMinutes(20))
+        .client("client")
+        .project("project")
+        .task("task")
+        .build();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Activity Sampling
+ * Copyright (c) 2026 Falko Schumann <falko.schumann@muspellheim.de>
+ */
+
+package de.muspellheim.activitysampling.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.muspellheim.activitysampling.infrastructure.TemporalParsers;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import org.junit.jupiter.api.Test;
+
+class TemporalParsersTests {
+  @Test
+  void parseTimestamp_WithSeconds_ReturnsTimestamp() {
+    var timestamp = TemporalParsers.parseTimestamp("2022-11-16T13:24:59");
+
+    assertEquals(LocalDateTime.of(2022, 11, 16, 13, 24, 59), timestamp);
+  }
+
+  @Test
+  void parseTimestamp_WithoutSeconds_ReturnsTimestamp() {
+    var timestamp = TemporalParsers.parseTimestamp("2022-11-16T13:24");
+
+    assertEquals(LocalDateTime.of(2022, 11, 16, 13, 24), timestamp);
+  }
+
+  @Test
+  void parseTimestamp_FractionOfSecond_FallsBackToJdkParser() {
+    var timestamp = TemporalParsers.parseTimestamp("2022-11-16T13:24:59.5");
+
+    assertEquals(LocalDateTime.of(2022, 11, 16, 13, 24, 59, 500_000_000), timestamp);
+  }
+
+  @Test
+  void parseTimestamp_InvalidDate_ThrowsException() {
+    assertThrows(
+        DateTimeException.class, () -> TemporalParsers.parseTimestamp("2022-02-30T13:24:00"));
+  }
+
+  @Test
+  void parseTimestamp_InvalidCharacter_ThrowsException() {
+    assertThrows(
+        DateTimeParseException.class,
+        () -> TemporalParsers.parseTimestamp("2022-11-1xT13:24:00"));
+  }
+
+  @Test
+  void parseDuration_Minutes_ReturnsDuration() {
+    var duration = TemporalParsers.parseDuration("PT20M");
+
+    assertEquals(Duration.ofMinutes(20), duration);
+  }
+
+  @Test
+  void parseDuration_HoursMinutesSeconds_ReturnsDuration() {
+    var duration = TemporalParsers.parseDuration("PT1H30M15S");
+
+    assertEquals(Duration.ofHours(1).plusMinutes(30).plusSeconds(15), duration);
+  }
+
+  @Test
+  void parseDuration_Zero_ReturnsDuration() {
+    var duration = TemporalParsers.parseDuration("PT0S");
+
+    assertEquals(Duration.ZERO, duration);
+  }
+
+  @Test
+  void parseDuration_Days_FallsBackToJdkParser() {
+    var duration = TemporalParsers.parseDuration("P1DT2H");
+
+    assertEquals(Duration.ofHours(26), duration);
+  }
+
+  @Test
+  void parseDuration_FractionOfSecond_FallsBackToJdkParser() {
+    var duration = TemporalParsers.parseDuration("PT1.5S");
+
+    assertEquals(Duration.ofMillis(1_500), duration);
+  }
+
+  @Test
+  void parseDuration_UnitsOutOfOrder_FallsBackToJdkParser() {
+    assertThrows(DateTimeParseException.class, () -> TemporalParsers.parseDuration("PT5M1H"));
+  }
+}
@@ -9,7 +9,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import de.muspellheim.activitysampling.domain.Activity;
 import de.muspellheim.activitysampling.domain.TimeReport;
+import de.muspellheim.activitysampling.domain.Timesheet;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -70,6 +72,26 @@ class TimeReportTests {
     assertEquals(Duration.ofMinutes(60), report.total());
   }
 
+  @Test
+  void from_Timesheet_CreatesReportWithEntriesSummarizedOverDays() {
+    var today = LocalDate.now();
+    var timesheet =
+        new Timesheet(
+            List.of(
+                newTimesheetEntry(today.minusDays(1), "c2", "p1", "t1"),
+                newTimesheetEntry(today.minusDays(1), "c1", "p1", "t1"),
+                newTimesheetEntry(today, "c1", "p1", "t1")));
+
+    var report = TimeReport.from(timesheet);
+
+    assertEquals(
+        new TimeReport(
+            List.of(
+                newReportEntry("c1", "p1", "t1", Duration.ofMinutes(30)),
+                newReportEntry("c2", "p1", "t1", Duration.ofMinutes(15)))),
+        report);
+  }
+
   @Test
   void groupByClient_NoActivities_CreatesEmptyReport() {
     var timeReport = new TimeReport(List.of());
@@ -237,6 +259,17 @@ class TimeReportTests {
     assertEquals(Duration.ofMinutes(60), report.total());
   }
 
+  private static Timesheet.Entry newTimesheetEntry(
+      LocalDate date, String client, String project, String task) {
+    return Timesheet.Entry.builder()
+        .date(date)
+        .client(client)
+        .project(project)
+        .task(task)
+        .hours(Duration.ofMinutes(15))
+        .build();
+  }
+
   private static TimeReport.Entry newReportEntry(String client, String project, String task) {
     return newReportEntry(client, project, task, Duration.ofMinutes(15));
   }
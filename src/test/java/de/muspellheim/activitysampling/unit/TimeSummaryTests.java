@@ -36,6 +36,37 @@ class TimeSummaryTests {
         summary);
   }
 
+  @Test
+  void plus_ActivityToday_AddsToTodayWeekAndMonth() {
+    var today = LocalDate.of(2023, 4, 7);
+    var summary =
+        TimeSummary.from(
+            today,
+            List.of(
+                newActivity(today, Duration.ofMinutes(5)),
+                newActivity(today.minusDays(1), Duration.ofMinutes(12))));
+
+    var result = summary.plus(today, newActivity(today, Duration.ofMinutes(20)));
+
+    assertEquals(
+        TimeSummary.builder()
+            .hoursToday(Duration.ofMinutes(25))
+            .hoursYesterday(Duration.ofMinutes(12))
+            .hoursThisWeek(Duration.ofMinutes(37))
+            .hoursThisMonth(Duration.ofMinutes(37))
+            .build(),
+        result);
+  }
+
+  @Test
+  void plus_ActivityInFuture_IgnoresActivity() {
+    var today = LocalDate.of(2023, 4, 7);
+
+    var result = TimeSummary.ZERO.plus(today, newActivity(today.plusDays(1), Duration.ofHours(1)));
+
+    assertEquals(TimeSummary.ZERO, result);
+  }
+
   @Test
   void from_MultipleActivitiesYesterday_SumsHours() {
     var today = LocalDate.of(2023, 4, 7);
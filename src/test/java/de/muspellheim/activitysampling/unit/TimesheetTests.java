@@ -13,6 +13,8 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -93,6 +95,28 @@ class TimesheetTests {
     assertEquals(Duration.ofMinutes(150), timesheet.total());
   }
 
+  @Test
+  void from_ActivitiesWithSharedKeyParts_CreatesSameTimesheetAsSortedInsertion() {
+    var start = LocalDate.of(2023, 1, 30);
+    var activities = new ArrayList<Activity>();
+    for (var i = 0; i < 500; i++) {
+      // Dates, clients, projects and tasks repeat with different periods, so many entries share a
+      // prefix of the order and only differ in a later key, including case and sub-second hours.
+      activities.add(
+          Activity.builder()
+              .timestamp(LocalDateTime.of(start.plusDays(i % 5), LocalTime.of(i % 24, 0)))
+              .duration(Duration.ofSeconds(i % 7, i % 3 * 1_000))
+              .client(i % 2 == 0 ? "c" : "C")
+              .project("p" + i % 3)
+              .task("t" + i % 4)
+              .build());
+    }
+
+    var timesheet = Timesheet.from(activities);
+
+    assertEquals(newTimesheetBySortedInsertion(activities), timesheet);
+  }
+
   private static Activity newActivity(LocalDate date, String client, String project, String task) {
     return Activity.builder()
         .timestamp(LocalDateTime.of(date, LocalTime.of(13, 0)))
@@ -103,6 +127,48 @@ class TimesheetTests {
         .build();
   }
 
+  private static Timesheet newTimesheetBySortedInsertion(List<Activity> activities) {
+    // The original algorithm: find the entry, accumulate or insert, keep the list sorted.
+    var entries = new ArrayList<Timesheet.Entry>();
+    for (var activity : activities) {
+      var date = activity.timestamp().toLocalDate();
+      var index = -1;
+      for (var i = 0; i < entries.size(); i++) {
+        var e = entries.get(i);
+        if (e.date().equals(date)
+            && e.client().equals(activity.client())
+            && e.project().equals(activity.project())
+            && e.task().equals(activity.task())) {
+          index = i;
+          break;
+        }
+      }
+      if (index == -1) {
+        entries.add(
+            Timesheet.Entry.builder()
+                .date(date)
+                .client(activity.client())
+                .project(activity.project())
+                .task(activity.task())
+                .hours(activity.duration())
+                .build());
+        Collections.sort(entries);
+      } else {
+        var entry = entries.get(index);
+        entries.set(
+            index,
+            Timesheet.Entry.builder()
+                .date(entry.date())
+                .client(entry.client())
+                .project(entry.project())
+                .task(entry.task())
+                .hours(entry.hours().plus(activity.duration()))
+                .build());
+      }
+    }
+    return new Timesheet(entries);
+  }
+
   private static Timesheet.Entry newTimesheetEntry(
       LocalDate date, String client, String project, String task) {
     return Timesheet.Entry.builder()
@@ -6,7 +6,10 @@
 package de.muspellheim.activitysampling.unit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import de.muspellheim.activitysampling.application.AsyncActivitiesService;
 import de.muspellheim.activitysampling.domain.Timesheet;
 import de.muspellheim.activitysampling.ui.timesheet.TimesheetItem;
 import de.muspellheim.activitysampling.ui.timesheet.TimesheetViewModel;
@@ -15,6 +18,8 @@ import de.muspellheim.activitysampling.util.Exceptions;
 import de.muspellheim.activitysampling.util.OutputTracker;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import org.junit.jupiter.api.BeforeEach;
@@ -59,6 +64,90 @@ class TimesheetViewModelTests {
     assertError("Failed to load timesheet. Something went wrong.");
   }
 
+  @Test
+  void load_Pending_IsLoading() {
+    var backgroundTasks = new ArrayList<Runnable>();
+    var uiTasks = new ArrayList<Runnable>();
+    var sut = newAsyncViewModel(backgroundTasks, uiTasks);
+    activitiesService.initTimesheetResponses(ConfigurableResponses.always(newTimesheet()));
+
+    sut.load(null, null);
+
+    assertTrue(sut.isLoading(), "Loading");
+    runAll(backgroundTasks);
+    runAll(uiTasks);
+    assertFalse(sut.isLoading(), "Loading");
+    assertEquals(
+        List.of(newTimesheetItem("Foo"), newTimesheetItem("Bar")), sut.getTimesheetItems());
+  }
+
+  @Test
+  void load_ResultsArriveOutOfOrder_ShowsLatestResult() {
+    var backgroundTasks = new ArrayList<Runnable>();
+    var uiTasks = new ArrayList<Runnable>();
+    var sut = newAsyncViewModel(backgroundTasks, uiTasks);
+    activitiesService.initTimesheetResponses(
+        ConfigurableResponses.sequence(new Timesheet(List.of()), newTimesheet()));
+
+    sut.load(null, null);
+    runAll(backgroundTasks);
+    sut.load(null, null);
+    runAll(backgroundTasks);
+    Collections.reverse(uiTasks);
+    runAll(uiTasks);
+
+    assertFalse(sut.isLoading(), "Loading");
+    assertEquals(
+        List.of(newTimesheetItem("Foo"), newTimesheetItem("Bar")), sut.getTimesheetItems());
+  }
+
+  @Test
+  void load_SupersededBeforeQueryRuns_SkipsQuery() {
+    var backgroundTasks = new ArrayList<Runnable>();
+    var uiTasks = new ArrayList<Runnable>();
+    var sut = newAsyncViewModel(backgroundTasks, uiTasks);
+    activitiesService.initTimesheetResponses(
+        ConfigurableResponses.sequence(newTimesheet(), new Timesheet(List.of())));
+
+    sut.load(null, null);
+    sut.load(null, null);
+    runAll(backgroundTasks);
+    runAll(uiTasks);
+
+    assertFalse(sut.isLoading(), "Loading");
+    assertEquals(
+        List.of(newTimesheetItem("Foo"), newTimesheetItem("Bar")), sut.getTimesheetItems());
+  }
+
+  @Test
+  void prefetch_Failed_IgnoresError() {
+    var timesheet = newTimesheet();
+    activitiesService.initTimesheetResponses(
+        ConfigurableResponses.sequence(
+            timesheet, new IllegalStateException("Something went wrong.")));
+    sut.load(null, null);
+
+    sut.prefetch(null, null);
+
+    assertFalse(sut.isLoading(), "Loading");
+    assertTimesheet(List.of(newTimesheetItem("Foo"), newTimesheetItem("Bar")), "00:40");
+    assertNoError();
+  }
+
+  private TimesheetViewModel newAsyncViewModel(
+      List<Runnable> backgroundTasks, List<Runnable> uiTasks) {
+    return new TimesheetViewModel(
+        new AsyncActivitiesService(activitiesService, backgroundTasks::add),
+        uiTasks::add,
+        Locale.GERMANY);
+  }
+
+  private static void runAll(List<Runnable> tasks) {
+    var pending = List.copyOf(tasks);
+    tasks.clear();
+    pending.forEach(Runnable::run);
+  }
+
   private static Timesheet newTimesheet() {
     return new Timesheet(
         List.of(
@@ -41,6 +41,29 @@ class WorkingDayTests {
         days, List.of(new WorkingDay(today, List.of(a2)), new WorkingDay(yesterday, List.of(a1))));
   }
 
+  @Test
+  void from_InterleavedActivitiesOnDifferentDays_CreatesOneWorkingDayPerDateDescending() {
+    var today = LocalDate.now();
+    var yesterday = today.minusDays(1);
+    var lastWeek = today.minusDays(7);
+    var y1 = newActivity(yesterday, LocalTime.of(9, 0));
+    var t1 = newActivity(today, LocalTime.of(10, 0));
+    var w1 = newActivity(lastWeek, LocalTime.of(14, 0));
+    var y2 = newActivity(yesterday, LocalTime.of(16, 0));
+    var t2 = newActivity(today, LocalTime.of(8, 0));
+    var w2 = newActivity(lastWeek, LocalTime.of(15, 0));
+    var t3 = newActivity(today, LocalTime.of(12, 0));
+
+    var days = WorkingDay.from(List.of(y1, t1, w1, y2, t2, w2, t3));
+
+    assertEquals(
+        List.of(
+            new WorkingDay(today, List.of(t3, t1, t2)),
+            new WorkingDay(yesterday, List.of(y2, y1)),
+            new WorkingDay(lastWeek, List.of(w2, w1))),
+        days);
+  }
+
   private static Activity newActivity(LocalDate date, LocalTime time) {
     return Activity.builder()
         .timestamp(LocalDateTime.of(date, time))